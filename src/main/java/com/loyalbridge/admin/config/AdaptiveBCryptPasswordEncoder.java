@@ -0,0 +1,79 @@
+package com.loyalbridge.admin.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder whose cost can be tuned without a password reset
+ *
+ * Hashes stored at any other cost report {@link #upgradeEncoding} so the
+ * authentication provider re-encodes the password at the configured cost on
+ * the admin's next successful login. Raising the cost hardens stored hashes;
+ * lowering it brings verification latency down as admins log in. The cost itself is always configured;
+ * {@link #calibrate} only measures this host to suggest a value.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Highest cost in [minStrength, maxStrength] whose hash takes at most targetMillis on this host
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        int strength = minStrength;
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            long started = System.nanoTime();
+            new BCryptPasswordEncoder(candidate).encode("calibration");
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            if (elapsedMillis > targetMillis && candidate > minStrength) {
+                break;
+            }
+            strength = candidate;
+            // Each step doubles the cost; stop before the next one overshoots
+            if (elapsedMillis * 2 > targetMillis) {
+                break;
+            }
+        }
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * Rehash whenever the stored cost differs from the configured one, in either direction
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+}
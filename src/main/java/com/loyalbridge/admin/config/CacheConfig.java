@@ -0,0 +1,103 @@
+package com.loyalbridge.admin.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.loyalbridge.admin.service.DashboardService;
+import com.loyalbridge.admin.service.PartnerService;
+import com.loyalbridge.admin.service.UserService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process cache configuration
+ *
+ * Each named cache is a Caffeine cache (W-TinyLFU eviction) built from its
+ * spec under loyalbridge.cache.specs, e.g.
+ * {@code maximumSize=500,expireAfterWrite=10m,refreshAfterWrite=1m}. Caches
+ * with refreshAfterWrite are reloaded in the background through the loaders
+ * registered below. The manager is transaction-aware, so {@code @CacheEvict}
+ * on a write takes effect only after the write commits.
+ *
+ * Caches are local to each node; the TTL bounds how long a write made on
+ * another node can go unseen.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
+
+    @Bean
+    public CacheManager cacheManager(Environment environment,
+                                     MeterRegistry meterRegistry,
+                                     @Lazy UserService userService,
+                                     @Lazy PartnerService partnerService,
+                                     @Lazy DashboardService dashboardService) {
+        Map<String, String> specs = Binder.get(environment)
+            .bind("loyalbridge.cache.specs", Bindable.mapOf(String.class, String.class))
+            .orElse(Map.of());
+        String defaultSpec = environment.getProperty("loyalbridge.cache.default-spec",
+                                                     "maximumSize=1000,expireAfterWrite=60s");
+
+        // Background reloads for caches with refreshAfterWrite; they bypass the cached methods
+        Map<String, CacheLoader<Object, Object>> loaders = Map.of(
+            CacheNames.USER_STATS, key -> userService.computeUserStats(),
+            CacheNames.PARTNER_STATS, key -> partnerService.computePartnerStats(),
+            CacheNames.CONVERSION_STATS, key -> dashboardService.computeConversionStats());
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        // No caches created on demand: every name must be declared in CacheNames
+        cacheManager.setCacheNames(List.of());
+
+        for (String name : CacheNames.ALL) {
+            String spec = specs.getOrDefault(name, defaultSpec);
+            Caffeine<Object, Object> builder = Caffeine.from(CaffeineSpec.parse(spec)).recordStats();
+
+            Cache<Object, Object> cache;
+            if (spec.contains("refreshAfterWrite")) {
+                CacheLoader<Object, Object> loader = loaders.get(name);
+                if (loader == null) {
+                    throw new IllegalStateException("Cache '" + name + "' sets refreshAfterWrite but has no loader");
+                }
+                cache = builder.build(loader);
+            } else {
+                cache = builder.build();
+            }
+            cacheManager.registerCustomCache(name, cache);
+
+            Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", name)
+                .tag("cache.manager", "cacheManager")
+                .description("Share of lookups served from the cache since startup")
+                .register(meterRegistry);
+            logger.debug("Cache {} configured: {}", name, spec);
+        }
+
+        specs.keySet().stream()
+            .filter(name -> !CacheNames.ALL.contains(name))
+            .forEach(name -> logger.warn("Ignoring spec for unknown cache '{}'", name));
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,26 @@
+package com.loyalbridge.admin.config;
+
+import java.util.List;
+
+/**
+ * Names of the application caches
+ *
+ * Every cache is created up front from its spec in application.properties;
+ * a name missing here cannot be used in {@code @Cacheable}.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public final class CacheNames {
+
+    public static final String ADMIN_DETAILS = "adminDetails";
+    public static final String PARTNER_STATS = "partnerStats";
+    public static final String USER_STATS = "userStats";
+    public static final String CONVERSION_STATS = "conversionStats";
+    public static final String CONVERSION_TRENDS = "conversionTrends";
+
+    public static final List<String> ALL = List.of(
+        ADMIN_DETAILS, PARTNER_STATS, USER_STATS, CONVERSION_STATS, CONVERSION_TRENDS);
+
+    private CacheNames() {}
+}
@@ -1,7 +1,9 @@
 package com.loyalbridge.admin.config;
 
-import com.loyalbridge.admin.service.AdminUserDetailsService;
+import com.loyalbridge.admin.service.AdminPrincipal;
+import com.loyalbridge.admin.service.AdminTokenVersions;
 import com.loyalbridge.admin.service.JwtService;
+import com.loyalbridge.admin.service.TokenRevocationStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,7 +13,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,7 +22,9 @@ import java.io.IOException;
 /**
  * JWT Authentication Filter for processing JWT tokens in requests
  * 
- * Validates JWT tokens and sets authentication context
+ * Validates JWT tokens and sets authentication context. The token is verified
+ * once and the principal is built from its claims; only the admin's token
+ * version is checked (from cache) instead of loading the admin entity.
  * 
  * @author LoyalBridge Development Team
  * @version 1.0.0
@@ -32,11 +35,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     
     private final JwtService jwtService;
-    private final AdminUserDetailsService userDetailsService;
+    private final AdminTokenVersions adminTokenVersions;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
 
-    public JwtAuthenticationFilter(JwtService jwtService, AdminUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, AdminTokenVersions adminTokenVersions,
+                                   TokenRevocationStore tokenRevocationStore) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.adminTokenVersions = adminTokenVersions;
+        this.tokenRevocationStore = tokenRevocationStore;
     }
 
     @Override
@@ -52,8 +59,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
 
         // Check if Authorization header is present and starts with Bearer
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -63,40 +68,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // Extract JWT token
-        jwt = authHeader.substring(7);
+        final String jwt = authHeader.substring(7);
         logger.debug("Extracted JWT token from request");
 
         try {
-            // Extract username from JWT
-            userEmail = jwtService.extractUsername(jwt);
+            // Nothing to do if authentication is already set
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                // Verify signature and expiry once and build the principal from the claims
+                AdminPrincipal principal = jwtService.parseAccessToken(jwt);
+                logger.debug("Processing JWT authentication for user: {}", principal.getEmail());
 
-            // If username is valid and no authentication is set
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                logger.debug("Processing JWT authentication for user: {}", userEmail);
-                
-                // Load user details
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-
-                // Validate token
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    logger.debug("JWT token is valid for user: {}", userEmail);
+                // Reject logged-out tokens and tokens issued before the admin was deactivated or changed
+                if (tokenRevocationStore.isRevoked(principal.getTokenId())) {
+                    logger.warn("Revoked JWT token presented for user: {}", principal.getEmail());
+                } else if (adminTokenVersions.isCurrent(principal.getAdminId(), principal.getTokenVersion())) {
+                    logger.debug("JWT token is valid for user: {}", principal.getEmail());
                     
                     // Create authentication token
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            principal,
                             null,
-                            userDetails.getAuthorities()
+                            principal.getAuthorities()
                     );
                     
                     // Set authentication details
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    authToken.setDetails(authenticationDetailsSource.buildDetails(request));
                     
                     // Set authentication in security context
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                     
-                    logger.debug("Authentication set for user: {}", userEmail);
+                    logger.debug("Authentication set for user: {}", principal.getEmail());
                 } else {
-                    logger.warn("JWT token is invalid for user: {}", userEmail);
+                    logger.warn("JWT token has been revoked for user: {}", principal.getEmail());
                 }
             }
         } catch (Exception e) {
@@ -1,6 +1,10 @@
 package com.loyalbridge.admin.config;
 
 import com.loyalbridge.admin.service.AdminUserDetailsService;
+import jakarta.servlet.DispatcherType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,7 +16,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -36,10 +39,26 @@ import java.util.List;
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+
+    // Bounds for the suggested BCrypt cost; 10 is the Spring Security default
+    private static final int BCRYPT_MIN_STRENGTH = 10;
+    private static final int BCRYPT_MAX_STRENGTH = 14;
+
     private final AdminUserDetailsService userDetailsService;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Value("${loyalbridge.security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    // When enabled, startup measures this host and logs the cost that fits the target; it never changes the cost
+    @Value("${loyalbridge.security.bcrypt.calibrate:false}")
+    private boolean bcryptCalibrate;
+
+    @Value("${loyalbridge.security.bcrypt.target-hash-ms:250}")
+    private long bcryptTargetMillis;
+
     public SecurityConfig(AdminUserDetailsService userDetailsService,
             JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
             JwtAuthenticationFilter jwtAuthenticationFilter) {
@@ -62,6 +81,9 @@ public class SecurityConfig {
 
                 // Configure authorization rules
                 .authorizeHttpRequests(authz -> authz
+                        // Async dispatches of already-authorized streaming requests (SSE)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html").permitAll()
@@ -138,7 +160,13 @@ public class SecurityConfig {
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        if (bcryptCalibrate) {
+            int suggested = AdaptiveBCryptPasswordEncoder.calibrate(bcryptTargetMillis, BCRYPT_MIN_STRENGTH,
+                                                                    BCRYPT_MAX_STRENGTH);
+            logger.info("BCrypt cost {} fits a {} ms target on this host (configured cost {})",
+                        suggested, bcryptTargetMillis, bcryptStrength);
+        }
+        return new AdaptiveBCryptPasswordEncoder(bcryptStrength);
     }
 
     /**
@@ -150,6 +178,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // Re-encode passwords stored at a different BCrypt cost on successful login
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -2,17 +2,35 @@ package com.loyalbridge.admin.controller;
 
 import com.loyalbridge.admin.dto.*;
 import com.loyalbridge.admin.service.AuthService;
+import com.loyalbridge.admin.service.JwtKeyRing;
+import com.loyalbridge.admin.service.LoginThrottle;
+import com.loyalbridge.admin.service.LoginThrottledException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * Authentication controller for admin login, logout, and token management
  * 
@@ -28,46 +46,88 @@ public class AuthController {
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
 
     private final AuthService authService;
+    private final LoginThrottle loginThrottle;
+    private final JwtKeyRing jwtKeyRing;
+    private final ExecutorService passwordHashExecutor;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, LoginThrottle loginThrottle, JwtKeyRing jwtKeyRing,
+                          @Qualifier("passwordHashExecutor") ExecutorService passwordHashExecutor) {
         this.authService = authService;
+        this.loginThrottle = loginThrottle;
+        this.jwtKeyRing = jwtKeyRing;
+        this.passwordHashExecutor = passwordHashExecutor;
     }
 
     /**
      * Admin login endpoint
+     *
+     * Credentials are checked on the bounded password hash pool; the request
+     * thread is released while the BCrypt check runs.
      */
     @PostMapping("/login")
     @Operation(summary = "Admin login", description = "Authenticate admin with email and password. May require 2FA verification.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login successful"),
             @ApiResponse(responseCode = "400", description = "Invalid credentials"),
-            @ApiResponse(responseCode = "401", description = "Authentication failed")
+            @ApiResponse(responseCode = "401", description = "Authentication failed"),
+            @ApiResponse(responseCode = "429", description = "Too many failed login attempts"),
+            @ApiResponse(responseCode = "503", description = "Login capacity exhausted, retry shortly")
     })
-    public ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<LoginResponse>> login(
-            @Valid @RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<LoginResponse>>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        logger.info("Login request received for email: {}", request.getEmail());
+        // The container resolves X-Forwarded-For into the remote address for trusted proxies only
+        String clientIp = httpRequest.getRemoteAddr();
+
         try {
-            logger.info("Login request received for email: {}", request.getEmail());
-
-            LoginResponse response = authService.login(request);
-
-            if (response.isRequires2FA()) {
-                return ResponseEntity.ok(
-                        com.loyalbridge.admin.dto.ApiResponse.success(
-                                "2FA required. Please verify OTP to complete login.",
-                                response));
-            } else {
-                return ResponseEntity.ok(
-                        com.loyalbridge.admin.dto.ApiResponse.success(
-                                "Login successful",
-                                response));
-            }
+            // Reject throttled attempts without taking a slot in the hash pool
+            loginThrottle.checkAllowed(request.getEmail(), clientIp);
 
+            return CompletableFuture
+                    .supplyAsync(() -> authService.login(request, clientIp), passwordHashExecutor)
+                    .handle((response, error) -> error == null
+                            ? loginSucceeded(response)
+                            : loginFailed(request, error instanceof CompletionException ? error.getCause() : error));
+
+        } catch (RejectedExecutionException e) {
+            logger.warn("Login rejected for email: {} - password hash pool saturated", request.getEmail());
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(com.loyalbridge.admin.dto.ApiResponse.error(
+                            "Login failed: too many concurrent logins, please retry")));
         } catch (Exception e) {
-            logger.error("Login failed for email: {} - {}", request.getEmail(), e.getMessage());
-            return ResponseEntity.badRequest()
+            return CompletableFuture.completedFuture(loginFailed(request, e));
+        }
+    }
+
+    private ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<LoginResponse>> loginSucceeded(LoginResponse response) {
+        if (response.isRequires2FA()) {
+            return ResponseEntity.ok(
+                    com.loyalbridge.admin.dto.ApiResponse.success(
+                            "2FA required. Please verify OTP to complete login.",
+                            response));
+        } else {
+            return ResponseEntity.ok(
+                    com.loyalbridge.admin.dto.ApiResponse.success(
+                            "Login successful",
+                            response));
+        }
+    }
+
+    private ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<LoginResponse>> loginFailed(LoginRequest request,
+                                                                                             Throwable e) {
+        if (e instanceof LoginThrottledException throttled) {
+            logger.warn("Login throttled for email: {}", request.getEmail());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(throttled.getRetryAfterSeconds()))
                     .body(com.loyalbridge.admin.dto.ApiResponse.error(
                             "Login failed: " + e.getMessage()));
         }
+        logger.error("Login failed for email: {} - {}", request.getEmail(), e.getMessage());
+        return ResponseEntity.badRequest()
+                .body(com.loyalbridge.admin.dto.ApiResponse.error(
+                        "Login failed: " + e.getMessage()));
     }
 
     /**
@@ -184,6 +244,41 @@ public class AuthController {
         }
     }
 
+    /**
+     * Currently throttled login keys endpoint
+     */
+    @GetMapping("/throttle")
+    @Operation(summary = "Get throttled login keys",
+               description = "List emails and client IPs currently blocked by the login brute-force throttle")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Throttled keys retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Authentication required"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<List<ThrottledKeyResponse>>> getThrottledKeys() {
+        return ResponseEntity.ok(
+                com.loyalbridge.admin.dto.ApiResponse.success(
+                        "Throttled keys retrieved successfully",
+                        loginThrottle.throttledKeys()));
+    }
+
+    /**
+     * Token verification keys endpoint
+     *
+     * Returned as a plain JWK Set rather than an ApiResponse so standard JWT
+     * libraries in other services can verify tokens from it.
+     */
+    @GetMapping("/jwks")
+    @Operation(summary = "Get token verification keys",
+               description = "Public keys of the token signing key ring as a JWK Set, looked up by the kid token header")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)))
+                .body(Map.of("keys", jwtKeyRing.publicJwks()));
+    }
+
     /**
      * Health check endpoint for authentication service
      */
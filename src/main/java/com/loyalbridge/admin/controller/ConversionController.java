@@ -0,0 +1,161 @@
+package com.loyalbridge.admin.controller;
+
+import com.loyalbridge.admin.dto.*;
+import com.loyalbridge.admin.service.ConversionLogService;
+import com.loyalbridge.admin.service.KeysetCursor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Controller for conversion log search
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/conversions")
+@Tag(name = "Conversions", description = "Endpoints for searching conversion logs")
+@SecurityRequirement(name = "bearerAuth")
+@CrossOrigin(origins = "*")
+public class ConversionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConversionController.class);
+
+    private final ConversionLogService conversionLogService;
+
+    @Value("${loyalbridge.admin.max-page-size:100}")
+    private int maxPageSize;
+
+    public ConversionController(ConversionLogService conversionLogService) {
+        this.conversionLogService = conversionLogService;
+    }
+
+    /**
+     * Search conversions with pagination and filtering
+     */
+    @GetMapping
+    @Operation(summary = "Search conversions",
+               description = "Retrieve paginated list of conversions with optional filtering")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Conversions retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'FINANCE_TEAM', 'SUPPORT_STAFF')")
+    public ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<Page<ConversionResponse>>> searchConversions(
+            @Parameter(description = "Filter by user ID") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Filter by partner ID") @RequestParam(required = false) Long partnerId,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
+            @Parameter(description = "Filter by transaction type") @RequestParam(required = false) String transactionType,
+            @Parameter(description = "Created at or after (ISO date-time)") @RequestParam(required = false)
+                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "Created at or before (ISO date-time)") @RequestParam(required = false)
+                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "desc") String sortDir) {
+
+        try {
+            logger.debug("Searching conversions - page: {}, size: {}, sortBy: {}, sortDir: {}", page, size, sortBy, sortDir);
+
+            Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ?
+                Sort.Direction.DESC : Sort.Direction.ASC;
+            Pageable pageable = PageRequest.of(page, KeysetCursor.clampPageSize(size, maxPageSize),
+                                               Sort.by(direction, sortBy));
+
+            ConversionSearchCriteria criteria = new ConversionSearchCriteria(
+                userId, partnerId, status, transactionType, startDate, endDate);
+
+            Page<ConversionResponse> conversions = conversionLogService.searchConversions(criteria, pageable);
+
+            return ResponseEntity.ok(
+                com.loyalbridge.admin.dto.ApiResponse.success(
+                    "Conversions retrieved successfully",
+                    conversions
+                )
+            );
+
+        } catch (Exception e) {
+            logger.error("Failed to search conversions: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(com.loyalbridge.admin.dto.ApiResponse.error(
+                        "Failed to retrieve conversions: " + e.getMessage()
+                    ));
+        }
+    }
+
+    /**
+     * Search conversions with cursor (keyset) pagination
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll conversions",
+               description = "Retrieve conversions with cursor-based pagination; pass nextCursor as 'after' to get the next slice. No total count is computed.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Conversions retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid request parameters or cursor"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'FINANCE_TEAM', 'SUPPORT_STAFF')")
+    public ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<CursorPage<ConversionResponse>>> scrollConversions(
+            @Parameter(description = "Filter by user ID") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Filter by partner ID") @RequestParam(required = false) Long partnerId,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
+            @Parameter(description = "Filter by transaction type") @RequestParam(required = false) String transactionType,
+            @Parameter(description = "Created at or after (ISO date-time)") @RequestParam(required = false)
+                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "Created at or before (ISO date-time)") @RequestParam(required = false)
+                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "Cursor returned as nextCursor by the previous slice") @RequestParam(required = false) String after,
+            @Parameter(description = "Slice size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort by field (createdAt, pointsAmount, id)") @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "desc") String sortDir) {
+
+        try {
+            logger.debug("Scrolling conversions - after: {}, size: {}, sortBy: {}, sortDir: {}", after, size, sortBy, sortDir);
+
+            Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ?
+                Sort.Direction.DESC : Sort.Direction.ASC;
+
+            ConversionSearchCriteria criteria = new ConversionSearchCriteria(
+                userId, partnerId, status, transactionType, startDate, endDate);
+
+            CursorPage<ConversionResponse> conversions =
+                conversionLogService.scrollConversions(criteria, after, KeysetCursor.clampPageSize(size, maxPageSize),
+                                                       sortBy, direction);
+
+            return ResponseEntity.ok(
+                com.loyalbridge.admin.dto.ApiResponse.success(
+                    "Conversions retrieved successfully",
+                    conversions
+                )
+            );
+
+        } catch (Exception e) {
+            logger.error("Failed to scroll conversions: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(com.loyalbridge.admin.dto.ApiResponse.error(
+                        "Failed to retrieve conversions: " + e.getMessage()
+                    ));
+        }
+    }
+}
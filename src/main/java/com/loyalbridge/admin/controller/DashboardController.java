@@ -1,7 +1,9 @@
 package com.loyalbridge.admin.controller;
 
 import com.loyalbridge.admin.dto.*;
+import com.loyalbridge.admin.service.ConversionRollupService;
 import com.loyalbridge.admin.service.DashboardService;
+import com.loyalbridge.admin.service.DashboardStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,10 +12,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -32,9 +38,32 @@ public class DashboardController {
     private static final Logger logger = LoggerFactory.getLogger(DashboardController.class);
 
     private final DashboardService dashboardService;
+    private final ConversionRollupService conversionRollupService;
+    private final DashboardStreamService dashboardStreamService;
 
-    public DashboardController(DashboardService dashboardService) {
+    public DashboardController(DashboardService dashboardService,
+                               ConversionRollupService conversionRollupService,
+                               DashboardStreamService dashboardStreamService) {
         this.dashboardService = dashboardService;
+        this.conversionRollupService = conversionRollupService;
+        this.dashboardStreamService = dashboardStreamService;
+    }
+
+    /**
+     * Subscribe to live dashboard updates
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream dashboard updates",
+               description = "Server-Sent Events stream of conversion deltas and periodic counters")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream opened"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'FINANCE_TEAM', 'SUPPORT_STAFF', 'PARTNER_ADMIN')")
+    public SseEmitter streamDashboard() {
+        logger.debug("Opening dashboard stream");
+        return dashboardStreamService.subscribe();
     }
 
     /**
@@ -210,4 +239,41 @@ public class DashboardController {
                     ));
         }
     }
+
+    /**
+     * Rebuild conversion daily rollup
+     */
+    @PostMapping("/conversions/rollup/rebuild")
+    @Operation(summary = "Rebuild conversion rollup", 
+               description = "Recompute daily conversion rollup buckets from the raw conversion log (backfill)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Conversion rollup rebuilt successfully"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<Integer>> rebuildConversionRollup(
+            @Parameter(description = "First day to rebuild (yyyy-MM-dd), defaults to 30 days ago") 
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        try {
+            LocalDate start = from != null ? from : LocalDate.now().minusDays(30);
+            logger.info("Rebuilding conversion rollup from {}", start);
+            
+            int buckets = conversionRollupService.rebuild(start);
+            
+            return ResponseEntity.ok(
+                com.loyalbridge.admin.dto.ApiResponse.success(
+                    "Conversion rollup rebuilt successfully", 
+                    buckets
+                )
+            );
+            
+        } catch (Exception e) {
+            logger.error("Failed to rebuild conversion rollup: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(com.loyalbridge.admin.dto.ApiResponse.error(
+                        "Failed to rebuild conversion rollup: " + e.getMessage()
+                    ));
+        }
+    }
 }
\ No newline at end of file
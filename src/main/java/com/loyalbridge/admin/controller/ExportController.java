@@ -0,0 +1,158 @@
+package com.loyalbridge.admin.controller;
+
+import com.loyalbridge.admin.dto.ExportJobRequest;
+import com.loyalbridge.admin.dto.ExportJobResponse;
+import com.loyalbridge.admin.service.ExportJob;
+import com.loyalbridge.admin.service.ExportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Controller for asynchronous export jobs
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/exports")
+@Tag(name = "Exports", description = "Endpoints for asynchronous CSV export jobs")
+@SecurityRequirement(name = "bearerAuth")
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportController.class);
+
+    private final ExportJobService exportJobService;
+
+    public ExportController(ExportJobService exportJobService) {
+        this.exportJobService = exportJobService;
+    }
+
+    /**
+     * Submit a new export job
+     */
+    @PostMapping
+    @Operation(summary = "Submit export job",
+               description = "Queue a users or conversions CSV export; poll the returned job for progress")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Export job queued"),
+        @ApiResponse(responseCode = "400", description = "Invalid export request"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "503", description = "Export queue is full")
+    })
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'FINANCE_TEAM')")
+    public ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<ExportJobResponse>> submitExportJob(
+            @Valid @RequestBody ExportJobRequest request) {
+        try {
+            logger.info("Submitting export job: {}", request);
+
+            ExportJobResponse job = exportJobService.submitJob(request);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(com.loyalbridge.admin.dto.ApiResponse.success(
+                        "Export job queued successfully",
+                        job
+                    ));
+
+        } catch (RejectedExecutionException e) {
+            logger.warn("Export job rejected, queue is full");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(com.loyalbridge.admin.dto.ApiResponse.error(
+                        "Export queue is full, please retry later"
+                    ));
+        } catch (Exception e) {
+            logger.error("Failed to submit export job: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(com.loyalbridge.admin.dto.ApiResponse.error(
+                        "Failed to submit export job: " + e.getMessage()
+                    ));
+        }
+    }
+
+    /**
+     * Get export job status and progress
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get export job", description = "Retrieve status and progress of an export job")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export job retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Export job not found"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'FINANCE_TEAM')")
+    public ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<ExportJobResponse>> getExportJob(
+            @Parameter(description = "Export job ID") @PathVariable String jobId) {
+        try {
+            ExportJobResponse job = exportJobService.getJob(jobId);
+
+            return ResponseEntity.ok(
+                com.loyalbridge.admin.dto.ApiResponse.success(
+                    "Export job retrieved successfully",
+                    job
+                )
+            );
+
+        } catch (Exception e) {
+            logger.error("Failed to retrieve export job {}: {}", jobId, e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(com.loyalbridge.admin.dto.ApiResponse.error(
+                        "Failed to retrieve export job: " + e.getMessage()
+                    ));
+        }
+    }
+
+    /**
+     * Download the file of a completed export job
+     */
+    @GetMapping("/{jobId}/download")
+    @Operation(summary = "Download export file",
+               description = "Download a completed export; supports HTTP Range requests for resuming")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export file"),
+        @ApiResponse(responseCode = "206", description = "Requested range of the export file"),
+        @ApiResponse(responseCode = "400", description = "Export job not found or not completed"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'FINANCE_TEAM')")
+    public ResponseEntity<Resource> downloadExport(
+            @Parameter(description = "Export job ID") @PathVariable String jobId) {
+        try {
+            ExportJob job = exportJobService.getCompletedJob(jobId);
+
+            // Range requests against a Resource body are answered with 206 by Spring MVC
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(job.isGzip()
+                ? MediaType.parseMediaType("application/gzip")
+                : new MediaType("text", "csv", StandardCharsets.UTF_8));
+            headers.setContentDisposition(ContentDisposition.attachment().filename(job.getFileName()).build());
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+            return new ResponseEntity<>(exportJobService.openDownload(job), headers, HttpStatus.OK);
+
+        } catch (Exception e) {
+            logger.error("Failed to download export {}: {}", jobId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
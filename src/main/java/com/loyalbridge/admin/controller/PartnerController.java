@@ -1,6 +1,7 @@
 package com.loyalbridge.admin.controller;
 
 import com.loyalbridge.admin.dto.*;
+import com.loyalbridge.admin.service.KeysetCursor;
 import com.loyalbridge.admin.service.PartnerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -39,6 +41,9 @@ public class PartnerController {
 
     private final PartnerService partnerService;
 
+    @Value("${loyalbridge.admin.max-page-size:100}")
+    private int maxPageSize;
+
     public PartnerController(PartnerService partnerService) {
         this.partnerService = partnerService;
     }
@@ -70,7 +75,8 @@ public class PartnerController {
             
             Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? 
                 Sort.Direction.DESC : Sort.Direction.ASC;
-            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+            Pageable pageable = PageRequest.of(page, KeysetCursor.clampPageSize(size, maxPageSize),
+                                               Sort.by(direction, sortBy));
             
             PartnerSearchCriteria criteria = new PartnerSearchCriteria();
             criteria.setName(name);
@@ -95,6 +101,58 @@ public class PartnerController {
         }
     }
 
+    /**
+     * Get partners with cursor (keyset) pagination
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll partners", 
+               description = "Retrieve partners with cursor-based pagination; pass nextCursor as 'after' to get the next slice. No total count is computed.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Partners retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid request parameters or cursor"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'PARTNER_ADMIN', 'FINANCE_TEAM')")
+    public ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<CursorPage<PartnerResponse>>> scrollPartners(
+            @Parameter(description = "Search by name") @RequestParam(required = false) String name,
+            @Parameter(description = "Filter by authentication method") @RequestParam(required = false) String authMethod,
+            @Parameter(description = "Filter by active status") @RequestParam(required = false) Boolean isActive,
+            @Parameter(description = "Cursor returned as nextCursor by the previous slice") @RequestParam(required = false) String after,
+            @Parameter(description = "Slice size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort by field (createdAt, name, conversionRate, id)") @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "desc") String sortDir) {
+        
+        try {
+            logger.debug("Scrolling partners - after: {}, size: {}, sortBy: {}, sortDir: {}", after, size, sortBy, sortDir);
+            
+            Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? 
+                Sort.Direction.DESC : Sort.Direction.ASC;
+            
+            PartnerSearchCriteria criteria = new PartnerSearchCriteria();
+            criteria.setName(name);
+            criteria.setAuthMethod(authMethod);
+            criteria.setIsActive(isActive);
+            
+            CursorPage<PartnerResponse> partners = partnerService.scrollPartners(
+                criteria, after, KeysetCursor.clampPageSize(size, maxPageSize), sortBy, direction);
+            
+            return ResponseEntity.ok(
+                com.loyalbridge.admin.dto.ApiResponse.success(
+                    "Partners retrieved successfully", 
+                    partners
+                )
+            );
+            
+        } catch (Exception e) {
+            logger.error("Failed to scroll partners: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(com.loyalbridge.admin.dto.ApiResponse.error(
+                        "Failed to retrieve partners: " + e.getMessage()
+                    ));
+        }
+    }
+
     /**
      * Get partner by ID
      */
@@ -344,4 +402,4 @@ public class PartnerController {
                     ));
         }
     }
-}
\ No newline at end of file
+}
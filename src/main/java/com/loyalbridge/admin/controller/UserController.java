@@ -1,6 +1,7 @@
 package com.loyalbridge.admin.controller;
 
 import com.loyalbridge.admin.dto.*;
+import com.loyalbridge.admin.service.KeysetCursor;
 import com.loyalbridge.admin.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -8,19 +9,26 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Controller for user management operations
@@ -39,6 +47,12 @@ public class UserController {
 
     private final UserService userService;
 
+    @Value("${loyalbridge.admin.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${loyalbridge.export.stream-timeout-ms:1800000}")
+    private long exportStreamTimeoutMs;
+
     public UserController(UserService userService) {
         this.userService = userService;
     }
@@ -58,6 +72,7 @@ public class UserController {
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'SUPPORT_STAFF', 'FINANCE_TEAM')")
     public ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<Page<UserResponse>>> getAllUsers(
             @Parameter(description = "Search by name") @RequestParam(required = false) String name,
+            @Parameter(description = "Search by email") @RequestParam(required = false) String email,
             @Parameter(description = "Search by phone number") @RequestParam(required = false) String phone,
             @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
             @Parameter(description = "Filter by high risk flag") @RequestParam(required = false) Boolean isHighRisk,
@@ -72,10 +87,12 @@ public class UserController {
             
             Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? 
                 Sort.Direction.DESC : Sort.Direction.ASC;
-            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+            Pageable pageable = PageRequest.of(page, KeysetCursor.clampPageSize(size, maxPageSize),
+                                               Sort.by(direction, sortBy));
             
             UserSearchCriteria criteria = new UserSearchCriteria();
             criteria.setName(name);
+            criteria.setEmail(email);
             criteria.setPhone(phone);
             criteria.setStatus(status);
             criteria.setIsHighRisk(isHighRisk);
@@ -99,6 +116,64 @@ public class UserController {
         }
     }
 
+    /**
+     * Get users with cursor (keyset) pagination
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll users", 
+               description = "Retrieve users with cursor-based pagination; pass nextCursor as 'after' to get the next slice. No total count is computed.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid request parameters or cursor"),
+        @ApiResponse(responseCode = "401", description = "Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'SUPPORT_STAFF', 'FINANCE_TEAM')")
+    public ResponseEntity<com.loyalbridge.admin.dto.ApiResponse<CursorPage<UserResponse>>> scrollUsers(
+            @Parameter(description = "Search by name") @RequestParam(required = false) String name,
+            @Parameter(description = "Search by email") @RequestParam(required = false) String email,
+            @Parameter(description = "Search by phone number") @RequestParam(required = false) String phone,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
+            @Parameter(description = "Filter by high risk flag") @RequestParam(required = false) Boolean isHighRisk,
+            @Parameter(description = "Filter by verification status") @RequestParam(required = false) Boolean isVerified,
+            @Parameter(description = "Cursor returned as nextCursor by the previous slice") @RequestParam(required = false) String after,
+            @Parameter(description = "Slice size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort by field (createdAt, name, email, id)") @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "desc") String sortDir) {
+        
+        try {
+            logger.debug("Scrolling users - after: {}, size: {}, sortBy: {}, sortDir: {}", after, size, sortBy, sortDir);
+            
+            Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? 
+                Sort.Direction.DESC : Sort.Direction.ASC;
+            
+            UserSearchCriteria criteria = new UserSearchCriteria();
+            criteria.setName(name);
+            criteria.setEmail(email);
+            criteria.setPhone(phone);
+            criteria.setStatus(status);
+            criteria.setIsHighRisk(isHighRisk);
+            criteria.setIsVerified(isVerified);
+            
+            CursorPage<UserResponse> users = userService.scrollUsers(
+                criteria, after, KeysetCursor.clampPageSize(size, maxPageSize), sortBy, direction);
+            
+            return ResponseEntity.ok(
+                com.loyalbridge.admin.dto.ApiResponse.success(
+                    "Users retrieved successfully", 
+                    users
+                )
+            );
+            
+        } catch (Exception e) {
+            logger.error("Failed to scroll users: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(com.loyalbridge.admin.dto.ApiResponse.error(
+                        "Failed to retrieve users: " + e.getMessage()
+                    ));
+        }
+    }
+
     /**
      * Get user by ID
      */
@@ -301,34 +376,44 @@ public class UserController {
         @ApiResponse(responseCode = "403", description = "Access denied")
     })
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'FINANCE_TEAM')")
-    public ResponseEntity<byte[]> exportUsers(
+    public WebAsyncTask<Void> exportUsers(
             @Parameter(description = "Search by name") @RequestParam(required = false) String name,
+            @Parameter(description = "Search by email") @RequestParam(required = false) String email,
             @Parameter(description = "Search by phone") @RequestParam(required = false) String phone,
             @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
             @Parameter(description = "Filter by high risk flag") @RequestParam(required = false) Boolean isHighRisk,
-            @Parameter(description = "Filter by verification status") @RequestParam(required = false) Boolean isVerified) {
+            @Parameter(description = "Filter by verification status") @RequestParam(required = false) Boolean isVerified,
+            HttpServletResponse response) {
         try {
             logger.info("Exporting users to CSV with filters");
             
             UserSearchCriteria criteria = new UserSearchCriteria();
             criteria.setName(name);
+            criteria.setEmail(email);
             criteria.setPhone(phone);
             criteria.setStatus(status);
             criteria.setIsHighRisk(isHighRisk);
             criteria.setIsVerified(isVerified);
             
-            byte[] csvData = userService.exportUsersToCSV(criteria);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.setContentDispositionFormData("attachment", 
-                "loyalbridge_users_export_" + System.currentTimeMillis() + ".csv");
-            
-            return new ResponseEntity<>(csvData, headers, HttpStatus.OK);
+            response.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8).toString());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.formData()
+                .name("attachment")
+                .filename("loyalbridge_users_export_" + System.currentTimeMillis() + ".csv")
+                .build().toString());
+            
+            // Rows are written straight to the response as they are read; only this
+            // endpoint gets the long async timeout, the global default stays short
+            return new WebAsyncTask<>(exportStreamTimeoutMs, () -> {
+                OutputStream outputStream = response.getOutputStream();
+                userService.writeUsersCsv(criteria, outputStream);
+                outputStream.flush();
+                return null;
+            });
             
         } catch (Exception e) {
             logger.error("Failed to export users: {}", e.getMessage());
-            return ResponseEntity.badRequest().build();
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return null;
         }
     }
 
@@ -410,4 +495,4 @@ public class UserController {
                     ));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package com.loyalbridge.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for conversion log response data
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ConversionResponse {
+
+    private Long id;
+    private String referenceId;
+    private Long userId;
+    private Long partnerId;
+    private String transactionType;
+    private String status;
+    private BigDecimal pointsAmount;
+    private BigDecimal convertedAmount;
+    private BigDecimal conversionRate;
+    private String description;
+    private String partnerTransactionId;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public ConversionResponse() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getReferenceId() { return referenceId; }
+    public void setReferenceId(String referenceId) { this.referenceId = referenceId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getPartnerId() { return partnerId; }
+    public void setPartnerId(Long partnerId) { this.partnerId = partnerId; }
+
+    public String getTransactionType() { return transactionType; }
+    public void setTransactionType(String transactionType) { this.transactionType = transactionType; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public BigDecimal getPointsAmount() { return pointsAmount; }
+    public void setPointsAmount(BigDecimal pointsAmount) { this.pointsAmount = pointsAmount; }
+
+    public BigDecimal getConvertedAmount() { return convertedAmount; }
+    public void setConvertedAmount(BigDecimal convertedAmount) { this.convertedAmount = convertedAmount; }
+
+    public BigDecimal getConversionRate() { return conversionRate; }
+    public void setConversionRate(BigDecimal conversionRate) { this.conversionRate = conversionRate; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getPartnerTransactionId() { return partnerTransactionId; }
+    public void setPartnerTransactionId(String partnerTransactionId) { this.partnerTransactionId = partnerTransactionId; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
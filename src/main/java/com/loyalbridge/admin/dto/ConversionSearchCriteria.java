@@ -0,0 +1,63 @@
+package com.loyalbridge.admin.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for conversion search criteria
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class ConversionSearchCriteria {
+
+    private Long userId;
+    private Long partnerId;
+    private String status;
+    private String transactionType;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+
+    // Constructors
+    public ConversionSearchCriteria() {}
+
+    public ConversionSearchCriteria(Long userId, Long partnerId, String status, String transactionType,
+                                    LocalDateTime startDate, LocalDateTime endDate) {
+        this.userId = userId;
+        this.partnerId = partnerId;
+        this.status = status;
+        this.transactionType = transactionType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getPartnerId() { return partnerId; }
+    public void setPartnerId(Long partnerId) { this.partnerId = partnerId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getTransactionType() { return transactionType; }
+    public void setTransactionType(String transactionType) { this.transactionType = transactionType; }
+
+    public LocalDateTime getStartDate() { return startDate; }
+    public void setStartDate(LocalDateTime startDate) { this.startDate = startDate; }
+
+    public LocalDateTime getEndDate() { return endDate; }
+    public void setEndDate(LocalDateTime endDate) { this.endDate = endDate; }
+
+    @Override
+    public String toString() {
+        return "ConversionSearchCriteria{" +
+                "userId=" + userId +
+                ", partnerId=" + partnerId +
+                ", status='" + status + '\'' +
+                ", transactionType='" + transactionType + '\'' +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                '}';
+    }
+}
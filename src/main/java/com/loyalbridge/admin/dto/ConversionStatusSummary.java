@@ -0,0 +1,39 @@
+package com.loyalbridge.admin.dto;
+
+import com.loyalbridge.admin.model.ConversionStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-status conversion aggregate produced by a single grouped query
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class ConversionStatusSummary {
+
+    private final ConversionStatus status;
+    private final long count;
+    private final BigDecimal totalPoints;
+    private final BigDecimal totalAmount;
+    private final long todayCount;
+    private final long weeklyCount;
+
+    public ConversionStatusSummary(ConversionStatus status, Long count, BigDecimal totalPoints,
+                                   BigDecimal totalAmount, Long todayCount, Long weeklyCount) {
+        this.status = status;
+        this.count = count != null ? count : 0L;
+        this.totalPoints = totalPoints != null ? totalPoints : BigDecimal.ZERO;
+        this.totalAmount = totalAmount != null ? totalAmount : BigDecimal.ZERO;
+        this.todayCount = todayCount != null ? todayCount : 0L;
+        this.weeklyCount = weeklyCount != null ? weeklyCount : 0L;
+    }
+
+    // Getters
+    public ConversionStatus getStatus() { return status; }
+    public long getCount() { return count; }
+    public BigDecimal getTotalPoints() { return totalPoints; }
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public long getTodayCount() { return todayCount; }
+    public long getWeeklyCount() { return weeklyCount; }
+}
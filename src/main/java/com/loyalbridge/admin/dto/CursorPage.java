@@ -0,0 +1,43 @@
+package com.loyalbridge.admin.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one slice of a cursor (keyset) paginated listing
+ *
+ * No total count is computed; pass nextCursor as the "after" parameter to
+ * fetch the following slice while hasNext is true
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    // Constructors
+    public CursorPage() {}
+
+    public CursorPage(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
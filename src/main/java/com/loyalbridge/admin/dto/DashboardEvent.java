@@ -0,0 +1,48 @@
+package com.loyalbridge.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for incremental dashboard updates pushed over the live stream
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardEvent {
+
+    public static final String CONVERSION_CREATED = "conversion-created";
+    public static final String CONVERSION_STATUS_CHANGED = "conversion-status-changed";
+    public static final String COUNTERS = "counters";
+
+    private String type;
+    private Object data;
+    private String previousStatus;
+    private LocalDateTime timestamp;
+
+    // Constructors
+    public DashboardEvent() {
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public DashboardEvent(String type, Object data) {
+        this.type = type;
+        this.data = data;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public Object getData() { return data; }
+    public void setData(Object data) { this.data = data; }
+
+    public String getPreviousStatus() { return previousStatus; }
+    public void setPreviousStatus(String previousStatus) { this.previousStatus = previousStatus; }
+
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
+}
@@ -20,6 +20,7 @@ public class DashboardResponse {
     private List<RecentTransactionResponse> recentTransactions;
     private List<ConversionTrendResponse> conversionTrends;
     private SystemHealthResponse systemHealth;
+    private List<String> degradedSections;
     private LocalDateTime lastUpdated;
 
     // Constructors
@@ -46,6 +47,11 @@ public class DashboardResponse {
     public SystemHealthResponse getSystemHealth() { return systemHealth; }
     public void setSystemHealth(SystemHealthResponse systemHealth) { this.systemHealth = systemHealth; }
 
+    public List<String> getDegradedSections() { return degradedSections; }
+    public void setDegradedSections(List<String> degradedSections) { this.degradedSections = degradedSections; }
+
+    public boolean isPartial() { return degradedSections != null && !degradedSections.isEmpty(); }
+
     public LocalDateTime getLastUpdated() { return lastUpdated; }
     public void setLastUpdated(LocalDateTime lastUpdated) { this.lastUpdated = lastUpdated; }
 }
\ No newline at end of file
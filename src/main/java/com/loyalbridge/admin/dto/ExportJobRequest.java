@@ -0,0 +1,98 @@
+package com.loyalbridge.admin.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for submitting an asynchronous export job
+ *
+ * The status filter applies to user status for USERS exports and to
+ * conversion status for CONVERSIONS exports
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class ExportJobRequest {
+
+    @NotBlank(message = "Export type is required")
+    @Pattern(regexp = "USERS|CONVERSIONS", message = "Export type must be USERS or CONVERSIONS")
+    private String type;
+
+    private Boolean gzip = false;
+
+    // Shared filter
+    private String status;
+
+    // User filters
+    private String name;
+    private String email;
+    private String phone;
+    private Boolean isHighRisk;
+    private Boolean isVerified;
+
+    // Conversion filters
+    private Long userId;
+    private Long partnerId;
+    private String transactionType;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+
+    // Constructors
+    public ExportJobRequest() {}
+
+    // Getters and Setters
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public Boolean getGzip() { return gzip; }
+    public void setGzip(Boolean gzip) { this.gzip = gzip; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) { this.phone = phone; }
+
+    public Boolean getIsHighRisk() { return isHighRisk; }
+    public void setIsHighRisk(Boolean isHighRisk) { this.isHighRisk = isHighRisk; }
+
+    public Boolean getIsVerified() { return isVerified; }
+    public void setIsVerified(Boolean isVerified) { this.isVerified = isVerified; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getPartnerId() { return partnerId; }
+    public void setPartnerId(Long partnerId) { this.partnerId = partnerId; }
+
+    public String getTransactionType() { return transactionType; }
+    public void setTransactionType(String transactionType) { this.transactionType = transactionType; }
+
+    public LocalDateTime getStartDate() { return startDate; }
+    public void setStartDate(LocalDateTime startDate) { this.startDate = startDate; }
+
+    public LocalDateTime getEndDate() { return endDate; }
+    public void setEndDate(LocalDateTime endDate) { this.endDate = endDate; }
+
+    @Override
+    public String toString() {
+        return "ExportJobRequest{" +
+                "type='" + type + '\'' +
+                ", gzip=" + gzip +
+                ", status='" + status + '\'' +
+                ", userId=" + userId +
+                ", partnerId=" + partnerId +
+                ", transactionType='" + transactionType + '\'' +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                '}';
+    }
+}
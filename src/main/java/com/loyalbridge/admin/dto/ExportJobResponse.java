@@ -0,0 +1,73 @@
+package com.loyalbridge.admin.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for export job status and progress
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class ExportJobResponse {
+
+    private String jobId;
+    private String type;
+    private String status;
+    private Long rowsWritten;
+    private Long maxRecords;
+    private Boolean truncated;
+    private Boolean gzip;
+    private String fileName;
+    private Long fileSize;
+    private String downloadUrl;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public ExportJobResponse() {}
+
+    // Getters and Setters
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Long getRowsWritten() { return rowsWritten; }
+    public void setRowsWritten(Long rowsWritten) { this.rowsWritten = rowsWritten; }
+
+    public Long getMaxRecords() { return maxRecords; }
+    public void setMaxRecords(Long maxRecords) { this.maxRecords = maxRecords; }
+
+    public Boolean getTruncated() { return truncated; }
+    public void setTruncated(Boolean truncated) { this.truncated = truncated; }
+
+    public Boolean getGzip() { return gzip; }
+    public void setGzip(Boolean gzip) { this.gzip = gzip; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public Long getFileSize() { return fileSize; }
+    public void setFileSize(Long fileSize) { this.fileSize = fileSize; }
+
+    public String getDownloadUrl() { return downloadUrl; }
+    public void setDownloadUrl(String downloadUrl) { this.downloadUrl = downloadUrl; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
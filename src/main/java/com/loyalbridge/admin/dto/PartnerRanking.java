@@ -0,0 +1,28 @@
+package com.loyalbridge.admin.dto;
+
+/**
+ * A partner ranked first by transactions, by amount processed, or both
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class PartnerRanking {
+
+    private final String name;
+    private final long transactionRank;
+    private final long amountRank;
+
+    public PartnerRanking(String name, Long transactionRank, Long amountRank) {
+        this.name = name;
+        this.transactionRank = transactionRank != null ? transactionRank : 0L;
+        this.amountRank = amountRank != null ? amountRank : 0L;
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public long getTransactionRank() { return transactionRank; }
+    public long getAmountRank() { return amountRank; }
+
+    public boolean isTopByTransactions() { return transactionRank == 1; }
+    public boolean isTopByAmount() { return amountRank == 1; }
+}
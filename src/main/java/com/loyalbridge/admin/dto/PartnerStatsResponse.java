@@ -21,6 +21,18 @@ public class PartnerStatsResponse {
     // Constructors
     public PartnerStatsResponse() {}
 
+    /**
+     * Projection constructor used by the aggregate statistics query; sums over no rows are null
+     */
+    public PartnerStatsResponse(Long totalPartners, Long activePartners, Long inactivePartners,
+                                BigDecimal totalAmountProcessed, Long totalTransactions) {
+        this.totalPartners = totalPartners != null ? totalPartners : 0L;
+        this.activePartners = activePartners != null ? activePartners : 0L;
+        this.inactivePartners = inactivePartners != null ? inactivePartners : 0L;
+        this.totalAmountProcessed = totalAmountProcessed != null ? totalAmountProcessed : BigDecimal.ZERO;
+        this.totalTransactions = totalTransactions != null ? totalTransactions : 0L;
+    }
+
     // Getters and Setters
     public Long getTotalPartners() { return totalPartners; }
     public void setTotalPartners(Long totalPartners) { this.totalPartners = totalPartners; }
@@ -1,6 +1,7 @@
 package com.loyalbridge.admin.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.loyalbridge.admin.model.TransactionType;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -26,6 +27,22 @@ public class PointsHistoryResponse {
     // Constructors
     public PointsHistoryResponse() {}
 
+    /**
+     * Projection constructor used by the points history JPQL query
+     */
+    public PointsHistoryResponse(Long id, TransactionType type, BigDecimal amount, BigDecimal balanceAfter,
+                                 String description, String partnerName, String referenceId,
+                                 LocalDateTime createdAt) {
+        this.id = id;
+        this.type = type != null ? type.name() : null;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.description = description;
+        this.partnerName = partnerName;
+        this.referenceId = referenceId;
+        this.createdAt = createdAt;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -1,5 +1,8 @@
 package com.loyalbridge.admin.dto;
 
+import com.loyalbridge.admin.model.ConversionStatus;
+import com.loyalbridge.admin.model.TransactionType;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -23,6 +26,22 @@ public class RecentTransactionResponse {
     // Constructors
     public RecentTransactionResponse() {}
 
+    /**
+     * Projection constructor used by the recent transactions JPQL query
+     */
+    public RecentTransactionResponse(Long id, String userName, String partnerName, TransactionType type,
+                                     BigDecimal pointsAmount, BigDecimal convertedAmount,
+                                     ConversionStatus status, LocalDateTime timestamp) {
+        this.id = id;
+        this.userName = userName;
+        this.partnerName = partnerName;
+        this.type = type != null ? type.name() : null;
+        this.pointsAmount = pointsAmount;
+        this.convertedAmount = convertedAmount;
+        this.status = status != null ? status.name() : null;
+        this.timestamp = timestamp;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -16,6 +16,19 @@ public class SystemHealthResponse {
     private Long activeSessions;
     private String memoryUsage;
     private LocalDateTime uptime;
+    private Long uptimeSeconds;
+    private Long dbActiveConnections;
+    private Long dbIdleConnections;
+    private Long dbPendingConnections;
+    private Long dbMaxConnections;
+    private Long heapUsedBytes;
+    private Long heapMaxBytes;
+    private Long gcPauseCount;
+    private Long gcPauseTotalMs;
+    private Long gcPauseMaxMs;
+    private Long liveThreads;
+    private Long peakThreads;
+    private Long daemonThreads;
 
     // Constructors
     public SystemHealthResponse() {}
@@ -38,4 +51,43 @@ public class SystemHealthResponse {
 
     public LocalDateTime getUptime() { return uptime; }
     public void setUptime(LocalDateTime uptime) { this.uptime = uptime; }
+
+    public Long getUptimeSeconds() { return uptimeSeconds; }
+    public void setUptimeSeconds(Long uptimeSeconds) { this.uptimeSeconds = uptimeSeconds; }
+
+    public Long getDbActiveConnections() { return dbActiveConnections; }
+    public void setDbActiveConnections(Long dbActiveConnections) { this.dbActiveConnections = dbActiveConnections; }
+
+    public Long getDbIdleConnections() { return dbIdleConnections; }
+    public void setDbIdleConnections(Long dbIdleConnections) { this.dbIdleConnections = dbIdleConnections; }
+
+    public Long getDbPendingConnections() { return dbPendingConnections; }
+    public void setDbPendingConnections(Long dbPendingConnections) { this.dbPendingConnections = dbPendingConnections; }
+
+    public Long getDbMaxConnections() { return dbMaxConnections; }
+    public void setDbMaxConnections(Long dbMaxConnections) { this.dbMaxConnections = dbMaxConnections; }
+
+    public Long getHeapUsedBytes() { return heapUsedBytes; }
+    public void setHeapUsedBytes(Long heapUsedBytes) { this.heapUsedBytes = heapUsedBytes; }
+
+    public Long getHeapMaxBytes() { return heapMaxBytes; }
+    public void setHeapMaxBytes(Long heapMaxBytes) { this.heapMaxBytes = heapMaxBytes; }
+
+    public Long getGcPauseCount() { return gcPauseCount; }
+    public void setGcPauseCount(Long gcPauseCount) { this.gcPauseCount = gcPauseCount; }
+
+    public Long getGcPauseTotalMs() { return gcPauseTotalMs; }
+    public void setGcPauseTotalMs(Long gcPauseTotalMs) { this.gcPauseTotalMs = gcPauseTotalMs; }
+
+    public Long getGcPauseMaxMs() { return gcPauseMaxMs; }
+    public void setGcPauseMaxMs(Long gcPauseMaxMs) { this.gcPauseMaxMs = gcPauseMaxMs; }
+
+    public Long getLiveThreads() { return liveThreads; }
+    public void setLiveThreads(Long liveThreads) { this.liveThreads = liveThreads; }
+
+    public Long getPeakThreads() { return peakThreads; }
+    public void setPeakThreads(Long peakThreads) { this.peakThreads = peakThreads; }
+
+    public Long getDaemonThreads() { return daemonThreads; }
+    public void setDaemonThreads(Long daemonThreads) { this.daemonThreads = daemonThreads; }
 }
\ No newline at end of file
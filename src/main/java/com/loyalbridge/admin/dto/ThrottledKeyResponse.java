@@ -0,0 +1,46 @@
+package com.loyalbridge.admin.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a login throttle key that is currently blocked
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class ThrottledKeyResponse {
+
+    private String key;
+    private double recentFailures;
+    private int strikes;
+    private LocalDateTime blockedUntil;
+    private long retryAfterSeconds;
+
+    // Constructors
+    public ThrottledKeyResponse() {}
+
+    public ThrottledKeyResponse(String key, double recentFailures, int strikes,
+                                LocalDateTime blockedUntil, long retryAfterSeconds) {
+        this.key = key;
+        this.recentFailures = recentFailures;
+        this.strikes = strikes;
+        this.blockedUntil = blockedUntil;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    // Getters and Setters
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+
+    public double getRecentFailures() { return recentFailures; }
+    public void setRecentFailures(double recentFailures) { this.recentFailures = recentFailures; }
+
+    public int getStrikes() { return strikes; }
+    public void setStrikes(int strikes) { this.strikes = strikes; }
+
+    public LocalDateTime getBlockedUntil() { return blockedUntil; }
+    public void setBlockedUntil(LocalDateTime blockedUntil) { this.blockedUntil = blockedUntil; }
+
+    public long getRetryAfterSeconds() { return retryAfterSeconds; }
+    public void setRetryAfterSeconds(long retryAfterSeconds) { this.retryAfterSeconds = retryAfterSeconds; }
+}
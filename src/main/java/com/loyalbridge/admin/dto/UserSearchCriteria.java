@@ -9,6 +9,7 @@ package com.loyalbridge.admin.dto;
 public class UserSearchCriteria {
 
     private String name;
+    private String email;
     private String phone;
     private String status;
     private Boolean isHighRisk;
@@ -36,6 +37,14 @@ public class UserSearchCriteria {
         this.name = name;
     }
 
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
     public String getPhone() {
         return phone;
     }
@@ -72,6 +81,7 @@ public class UserSearchCriteria {
     public String toString() {
         return "UserSearchCriteria{" +
                 "name='" + name + '\'' +
+                ", email='" + email + '\'' +
                 ", phone='" + phone + '\'' +
                 ", status='" + status + '\'' +
                 ", isHighRisk=" + isHighRisk +
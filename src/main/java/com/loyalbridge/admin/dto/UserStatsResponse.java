@@ -24,6 +24,25 @@ public class UserStatsResponse {
     // Constructors
     public UserStatsResponse() {}
 
+    /**
+     * Projection constructor used by the aggregate statistics query; sums over no rows are null
+     */
+    public UserStatsResponse(Long totalUsers, Long activeUsers, Long frozenUsers, Long suspendedUsers,
+                             Long inactiveUsers, Long verifiedUsers, Long highRiskUsers,
+                             BigDecimal totalPointsInSystem, BigDecimal totalLifetimeEarnings,
+                             BigDecimal totalLifetimeRedemptions) {
+        this.totalUsers = totalUsers != null ? totalUsers : 0L;
+        this.activeUsers = activeUsers != null ? activeUsers : 0L;
+        this.frozenUsers = frozenUsers != null ? frozenUsers : 0L;
+        this.suspendedUsers = suspendedUsers != null ? suspendedUsers : 0L;
+        this.inactiveUsers = inactiveUsers != null ? inactiveUsers : 0L;
+        this.verifiedUsers = verifiedUsers != null ? verifiedUsers : 0L;
+        this.highRiskUsers = highRiskUsers != null ? highRiskUsers : 0L;
+        this.totalPointsInSystem = totalPointsInSystem != null ? totalPointsInSystem : BigDecimal.ZERO;
+        this.totalLifetimeEarnings = totalLifetimeEarnings != null ? totalLifetimeEarnings : BigDecimal.ZERO;
+        this.totalLifetimeRedemptions = totalLifetimeRedemptions != null ? totalLifetimeRedemptions : BigDecimal.ZERO;
+    }
+
     // Getters and Setters
     public Long getTotalUsers() { return totalUsers; }
     public void setTotalUsers(Long totalUsers) { this.totalUsers = totalUsers; }
@@ -1,5 +1,6 @@
 package com.loyalbridge.admin.model;
 
+import com.loyalbridge.admin.service.AdminChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -11,6 +12,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Admin entity representing system administrators with role-based access control
@@ -23,6 +25,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "admins")
+@EntityListeners(AdminChangeListener.class)
 public class Admin implements UserDetails {
     
     @Id
@@ -56,6 +59,10 @@ public class Admin implements UserDetails {
     @Column(name = "last_login")
     private LocalDateTime lastLogin;
 
+    // Embedded in issued tokens; bumped whenever credentials, role or status change
+    @Column(name = "token_version")
+    private Long tokenVersion = 0L;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -124,10 +131,20 @@ public class Admin implements UserDetails {
     public void setEmail(String email) { this.email = email; }
 
     public String getPassword() { return password; }
-    public void setPassword(String password) { this.password = password; }
+    public void setPassword(String password) {
+        if (this.password != null && !this.password.equals(password)) {
+            revokeIssuedTokens();
+        }
+        this.password = password;
+    }
 
     public AdminRole getRole() { return role; }
-    public void setRole(AdminRole role) { this.role = role; }
+    public void setRole(AdminRole role) {
+        if (this.role != null && this.role != role) {
+            revokeIssuedTokens();
+        }
+        this.role = role;
+    }
 
     public String getFirstName() { return firstName; }
     public void setFirstName(String firstName) { this.firstName = firstName; }
@@ -136,7 +153,12 @@ public class Admin implements UserDetails {
     public void setLastName(String lastName) { this.lastName = lastName; }
 
     public Boolean getIsActive() { return isActive; }
-    public void setIsActive(Boolean isActive) { this.isActive = isActive; }
+    public void setIsActive(Boolean isActive) {
+        if (this.isActive != null && !Objects.equals(this.isActive, isActive)) {
+            revokeIssuedTokens();
+        }
+        this.isActive = isActive;
+    }
 
     public LocalDateTime getLastLogin() { return lastLogin; }
     public void setLastLogin(LocalDateTime lastLogin) { this.lastLogin = lastLogin; }
@@ -147,7 +169,25 @@ public class Admin implements UserDetails {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    public long getTokenVersion() { return tokenVersion != null ? tokenVersion : 0L; }
+    public void setTokenVersion(Long tokenVersion) { this.tokenVersion = tokenVersion; }
+
     // Helper methods
+
+    /**
+     * Replace the stored hash with a re-encoding of the same password; issued tokens stay valid
+     */
+    public void upgradePasswordHash(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+    /**
+     * Invalidate every token issued so far for this admin
+     */
+    public void revokeIssuedTokens() {
+        this.tokenVersion = getTokenVersion() + 1;
+    }
+
     public String getFullName() {
         return (firstName != null ? firstName : "") + 
                (lastName != null ? " " + lastName : "").trim();
@@ -0,0 +1,91 @@
+package com.loyalbridge.admin.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Composite key of a daily conversion rollup bucket: (day, partner, type, status)
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Embeddable
+public class ConversionDailyRollupId implements Serializable {
+
+    @Column(name = "conversion_date", nullable = false)
+    private LocalDate conversionDate;
+
+    @Column(name = "partner_id", nullable = false)
+    private Long partnerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType transactionType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ConversionStatus status;
+
+    // Constructors
+    public ConversionDailyRollupId() {}
+
+    public ConversionDailyRollupId(LocalDate conversionDate, Long partnerId,
+                                   TransactionType transactionType, ConversionStatus status) {
+        this.conversionDate = conversionDate;
+        this.partnerId = partnerId;
+        this.transactionType = transactionType;
+        this.status = status;
+    }
+
+    /**
+     * Bucket a conversion log falls into for the given status
+     */
+    public static ConversionDailyRollupId of(ConversionLog log, ConversionStatus status) {
+        return new ConversionDailyRollupId(log.getCreatedAt().toLocalDate(), log.getPartnerId(),
+                                           log.getTransactionType(), status);
+    }
+
+    // Getters and Setters
+    public LocalDate getConversionDate() { return conversionDate; }
+    public void setConversionDate(LocalDate conversionDate) { this.conversionDate = conversionDate; }
+
+    public Long getPartnerId() { return partnerId; }
+    public void setPartnerId(Long partnerId) { this.partnerId = partnerId; }
+
+    public TransactionType getTransactionType() { return transactionType; }
+    public void setTransactionType(TransactionType transactionType) { this.transactionType = transactionType; }
+
+    public ConversionStatus getStatus() { return status; }
+    public void setStatus(ConversionStatus status) { this.status = status; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ConversionDailyRollupId that)) return false;
+        return Objects.equals(conversionDate, that.conversionDate) &&
+               Objects.equals(partnerId, that.partnerId) &&
+               transactionType == that.transactionType &&
+               status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(conversionDate, partnerId, transactionType, status);
+    }
+
+    @Override
+    public String toString() {
+        return "ConversionDailyRollupId{" +
+                "conversionDate=" + conversionDate +
+                ", partnerId=" + partnerId +
+                ", transactionType=" + transactionType +
+                ", status=" + status +
+                '}';
+    }
+}
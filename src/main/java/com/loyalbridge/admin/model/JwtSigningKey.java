@@ -0,0 +1,67 @@
+package com.loyalbridge.admin.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * JwtSigningKey entity holding one asymmetric key pair of the token key ring
+ *
+ * The newest key signs new tokens; older keys stay in the table only to
+ * verify tokens they signed until those can no longer be live. Keys are
+ * stored encoded (X.509 public, PKCS#8 private) so every node shares the ring
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "jwt_signing_keys", indexes = {
+    @Index(name = "idx_jwt_signing_keys_created_at", columnList = "created_at")
+})
+public class JwtSigningKey {
+
+    @Id
+    @Column(name = "kid", length = 36)
+    private String kid;
+
+    @Column(name = "algorithm", nullable = false, length = 16)
+    private String algorithm;
+
+    @Lob
+    @Column(name = "public_key", nullable = false)
+    private String publicKey;
+
+    @Lob
+    @Column(name = "private_key", nullable = false)
+    private String privateKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public JwtSigningKey() {}
+
+    public JwtSigningKey(String kid, String algorithm, String publicKey, String privateKey) {
+        this.kid = kid;
+        this.algorithm = algorithm;
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getKid() { return kid; }
+    public void setKid(String kid) { this.kid = kid; }
+
+    public String getAlgorithm() { return algorithm; }
+    public void setAlgorithm(String algorithm) { this.algorithm = algorithm; }
+
+    public String getPublicKey() { return publicKey; }
+    public void setPublicKey(String publicKey) { this.publicKey = publicKey; }
+
+    public String getPrivateKey() { return privateKey; }
+    public void setPrivateKey(String privateKey) { this.privateKey = privateKey; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,43 @@
+package com.loyalbridge.admin.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * PartnerRegistryVersion entity holding the single row versioning the partners table
+ *
+ * Incremented in the same transaction as every partner write so each node
+ * can tell whether its in-memory partner registry is current
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "partner_registry_version")
+public class PartnerRegistryVersion {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    private Integer id = SINGLETON_ID;
+
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+
+    @Column(name = "changed_at")
+    private LocalDateTime changedAt;
+
+    // Constructors
+    public PartnerRegistryVersion() {}
+
+    // Getters and Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public void setChangedAt(LocalDateTime changedAt) { this.changedAt = changedAt; }
+}
@@ -1,5 +1,6 @@
 package com.loyalbridge.admin.model;
 
+import com.loyalbridge.admin.service.UserSearchIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -21,8 +22,10 @@ import java.time.LocalDateTime;
     @Index(name = "idx_user_email", columnList = "email"),
     @Index(name = "idx_user_status", columnList = "status"),
     @Index(name = "idx_user_phone", columnList = "phone_number"),
-    @Index(name = "idx_user_created_at", columnList = "created_at")
+    @Index(name = "idx_user_created_at", columnList = "created_at"),
+    @Index(name = "idx_user_updated_at", columnList = "updated_at")
 })
+@EntityListeners(UserSearchIndexListener.class)
 public class User {
     
     @Id
@@ -0,0 +1,98 @@
+package com.loyalbridge.admin.model;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * UserStatsCounters entity holding the single row of maintained user statistics
+ *
+ * Adjusted in the same transaction as user status, risk and verification
+ * changes so statistics are read from one row instead of scanning users
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "user_stats_counters")
+public class UserStatsCounters {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    private Integer id = SINGLETON_ID;
+
+    @Column(name = "total_users", nullable = false)
+    private Long totalUsers = 0L;
+
+    @Column(name = "active_users", nullable = false)
+    private Long activeUsers = 0L;
+
+    @Column(name = "frozen_users", nullable = false)
+    private Long frozenUsers = 0L;
+
+    @Column(name = "suspended_users", nullable = false)
+    private Long suspendedUsers = 0L;
+
+    @Column(name = "inactive_users", nullable = false)
+    private Long inactiveUsers = 0L;
+
+    @Column(name = "verified_users", nullable = false)
+    private Long verifiedUsers = 0L;
+
+    @Column(name = "high_risk_users", nullable = false)
+    private Long highRiskUsers = 0L;
+
+    @Column(name = "total_points", precision = 14, scale = 2, nullable = false)
+    private BigDecimal totalPoints = BigDecimal.ZERO;
+
+    @Column(name = "lifetime_earnings", precision = 14, scale = 2, nullable = false)
+    private BigDecimal lifetimeEarnings = BigDecimal.ZERO;
+
+    @Column(name = "lifetime_redemptions", precision = 14, scale = 2, nullable = false)
+    private BigDecimal lifetimeRedemptions = BigDecimal.ZERO;
+
+    @Column(name = "rebuilt_at")
+    private LocalDateTime rebuiltAt;
+
+    // Constructors
+    public UserStatsCounters() {}
+
+    // Getters and Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public Long getTotalUsers() { return totalUsers; }
+    public void setTotalUsers(Long totalUsers) { this.totalUsers = totalUsers; }
+
+    public Long getActiveUsers() { return activeUsers; }
+    public void setActiveUsers(Long activeUsers) { this.activeUsers = activeUsers; }
+
+    public Long getFrozenUsers() { return frozenUsers; }
+    public void setFrozenUsers(Long frozenUsers) { this.frozenUsers = frozenUsers; }
+
+    public Long getSuspendedUsers() { return suspendedUsers; }
+    public void setSuspendedUsers(Long suspendedUsers) { this.suspendedUsers = suspendedUsers; }
+
+    public Long getInactiveUsers() { return inactiveUsers; }
+    public void setInactiveUsers(Long inactiveUsers) { this.inactiveUsers = inactiveUsers; }
+
+    public Long getVerifiedUsers() { return verifiedUsers; }
+    public void setVerifiedUsers(Long verifiedUsers) { this.verifiedUsers = verifiedUsers; }
+
+    public Long getHighRiskUsers() { return highRiskUsers; }
+    public void setHighRiskUsers(Long highRiskUsers) { this.highRiskUsers = highRiskUsers; }
+
+    public BigDecimal getTotalPoints() { return totalPoints; }
+    public void setTotalPoints(BigDecimal totalPoints) { this.totalPoints = totalPoints; }
+
+    public BigDecimal getLifetimeEarnings() { return lifetimeEarnings; }
+    public void setLifetimeEarnings(BigDecimal lifetimeEarnings) { this.lifetimeEarnings = lifetimeEarnings; }
+
+    public BigDecimal getLifetimeRedemptions() { return lifetimeRedemptions; }
+    public void setLifetimeRedemptions(BigDecimal lifetimeRedemptions) { this.lifetimeRedemptions = lifetimeRedemptions; }
+
+    public LocalDateTime getRebuiltAt() { return rebuiltAt; }
+    public void setRebuiltAt(LocalDateTime rebuiltAt) { this.rebuiltAt = rebuiltAt; }
+}
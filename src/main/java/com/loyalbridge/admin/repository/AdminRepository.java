@@ -24,6 +24,12 @@ public interface AdminRepository extends JpaRepository<Admin, Long> {
      */
     Optional<Admin> findByEmail(String email);
     
+    /**
+     * Current token version of an active admin; empty if the admin is missing or inactive
+     */
+    @Query("SELECT COALESCE(a.tokenVersion, 0) FROM Admin a WHERE a.id = :id AND a.isActive = true")
+    Optional<Long> findActiveTokenVersion(@Param("id") Long id);
+    
     /**
      * Check if admin exists by email
      */
@@ -0,0 +1,48 @@
+package com.loyalbridge.admin.repository;
+
+import com.loyalbridge.admin.dto.ConversionTrendResponse;
+import com.loyalbridge.admin.model.ConversionDailyRollup;
+import com.loyalbridge.admin.model.ConversionDailyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for ConversionDailyRollup entity operations
+ *
+ * @author LoyalBridge Development Team
+ */
+@Repository
+public interface ConversionDailyRollupRepository extends JpaRepository<ConversionDailyRollup, ConversionDailyRollupId> {
+
+    /**
+     * Apply a delta to an existing rollup bucket, returning the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE ConversionDailyRollup r SET " +
+           "r.conversionCount = r.conversionCount + :count, " +
+           "r.totalPoints = r.totalPoints + :points, " +
+           "r.totalAmount = r.totalAmount + :amount " +
+           "WHERE r.id = :id")
+    int applyDelta(@Param("id") ConversionDailyRollupId id,
+                   @Param("count") long count,
+                   @Param("points") BigDecimal points,
+                   @Param("amount") BigDecimal amount);
+
+    /**
+     * Get daily conversion trends from the rollup
+     */
+    @Query("SELECT new com.loyalbridge.admin.dto.ConversionTrendResponse(r.id.conversionDate, " +
+           "SUM(r.conversionCount), SUM(r.totalPoints), SUM(r.totalAmount)) " +
+           "FROM ConversionDailyRollup r WHERE r.id.conversionDate >= :startDate " +
+           "GROUP BY r.id.conversionDate " +
+           "HAVING SUM(r.conversionCount) > 0 " +
+           "ORDER BY r.id.conversionDate DESC")
+    List<ConversionTrendResponse> findDailyTrends(@Param("startDate") LocalDate startDate);
+}
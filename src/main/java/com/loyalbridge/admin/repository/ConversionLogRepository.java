@@ -1,18 +1,26 @@
 package com.loyalbridge.admin.repository;
 
+import com.loyalbridge.admin.dto.ConversionStatusSummary;
+import com.loyalbridge.admin.dto.RecentTransactionResponse;
 import com.loyalbridge.admin.model.ConversionLog;
 import com.loyalbridge.admin.model.ConversionStatus;
 import com.loyalbridge.admin.model.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for ConversionLog entity operations
@@ -20,10 +28,13 @@ import java.util.List;
  * @author LoyalBridge Development Team
  */
 @Repository
-public interface ConversionLogRepository extends JpaRepository<ConversionLog, Long> {
+public interface ConversionLogRepository extends JpaRepository<ConversionLog, Long>, JpaSpecificationExecutor<ConversionLog> {
 
        /**
-        * Find conversions with advanced search criteria
+        * Stream conversions for export (no pagination)
+        *
+        * Rows are fetched from the cursor in batches and entities are read-only,
+        * so the caller must consume the stream inside a transaction and close it
         */
        @Query("SELECT c FROM ConversionLog c WHERE " +
                      "(:userId IS NULL OR c.userId = :userId) AND " +
@@ -31,26 +42,14 @@ public interface ConversionLogRepository extends JpaRepository<ConversionLog, Lo
                      "(:status IS NULL OR c.status = :status) AND " +
                      "(:transactionType IS NULL OR c.transactionType = :transactionType) AND " +
                      "(:startDate IS NULL OR c.createdAt >= :startDate) AND " +
-                     "(:endDate IS NULL OR c.createdAt <= :endDate)")
-       Page<ConversionLog> findConversionsWithCriteria(@Param("userId") Long userId,
-                     @Param("partnerId") Long partnerId,
-                     @Param("status") ConversionStatus status,
-                     @Param("transactionType") TransactionType transactionType,
-                     @Param("startDate") LocalDateTime startDate,
-                     @Param("endDate") LocalDateTime endDate,
-                     Pageable pageable);
-
-       /**
-        * Find conversions for export (no pagination)
-        */
-       @Query("SELECT c FROM ConversionLog c WHERE " +
-                     "(:userId IS NULL OR c.userId = :userId) AND " +
-                     "(:partnerId IS NULL OR c.partnerId = :partnerId) AND " +
-                     "(:status IS NULL OR c.status = :status) AND " +
-                     "(:transactionType IS NULL OR c.transactionType = :transactionType) AND " +
-                     "(:startDate IS NULL OR c.createdAt >= :startDate) AND " +
-                     "(:endDate IS NULL OR c.createdAt <= :endDate)")
-       List<ConversionLog> findConversionsForExport(@Param("userId") Long userId,
+                     "(:endDate IS NULL OR c.createdAt <= :endDate) " +
+                     "ORDER BY c.id")
+       @QueryHints({
+              @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+              @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+              @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+       })
+       Stream<ConversionLog> streamConversionsForExport(@Param("userId") Long userId,
                      @Param("partnerId") Long partnerId,
                      @Param("status") ConversionStatus status,
                      @Param("transactionType") TransactionType transactionType,
@@ -83,6 +82,28 @@ public interface ConversionLogRepository extends JpaRepository<ConversionLog, Lo
        @Query("SELECT c FROM ConversionLog c ORDER BY c.createdAt DESC")
        Page<ConversionLog> findRecentConversions(Pageable pageable);
 
+       /**
+        * Find recent conversions with user and partner names resolved in the same statement
+        */
+       @Query("SELECT new com.loyalbridge.admin.dto.RecentTransactionResponse(c.id, u.name, p.name, " +
+                     "c.transactionType, c.pointsAmount, c.convertedAmount, c.status, c.createdAt) " +
+                     "FROM ConversionLog c " +
+                     "LEFT JOIN User u ON u.id = c.userId " +
+                     "LEFT JOIN Partner p ON p.id = c.partnerId " +
+                     "ORDER BY c.createdAt DESC")
+       List<RecentTransactionResponse> findRecentTransactions(Pageable pageable);
+
+       /**
+        * Find a single conversion with user and partner names resolved
+        */
+       @Query("SELECT new com.loyalbridge.admin.dto.RecentTransactionResponse(c.id, u.name, p.name, " +
+                     "c.transactionType, c.pointsAmount, c.convertedAmount, c.status, c.createdAt) " +
+                     "FROM ConversionLog c " +
+                     "LEFT JOIN User u ON u.id = c.userId " +
+                     "LEFT JOIN Partner p ON p.id = c.partnerId " +
+                     "WHERE c.id = :id")
+       Optional<RecentTransactionResponse> findTransactionById(@Param("id") Long id);
+
        /**
         * Count conversions by status
         */
@@ -107,13 +128,15 @@ public interface ConversionLogRepository extends JpaRepository<ConversionLog, Lo
        BigDecimal sumConvertedAmountByStatus(@Param("status") ConversionStatus status);
 
        /**
-        * Get daily conversion statistics
+        * Summarize conversions per status in a single pass: counts, sums and
+        * today / weekly counts via conditional aggregation
         */
-       @Query("SELECT FORMATDATETIME(c.createdAt, 'yyyy-MM-dd') as date, COUNT(c) as count, " +
-                     "COALESCE(SUM(c.pointsAmount), 0) as totalPoints, " +
-                     "COALESCE(SUM(c.convertedAmount), 0) as totalAmount " +
-                     "FROM ConversionLog c WHERE c.createdAt >= :startDate " +
-                     "GROUP BY FORMATDATETIME(c.createdAt, 'yyyy-MM-dd') " +
-                     "ORDER BY FORMATDATETIME(c.createdAt, 'yyyy-MM-dd') DESC")
-       List<Object[]> getDailyConversionStats(@Param("startDate") LocalDateTime startDate);
+       @Query("SELECT new com.loyalbridge.admin.dto.ConversionStatusSummary(c.status, COUNT(c), " +
+                     "COALESCE(SUM(c.pointsAmount), 0), " +
+                     "COALESCE(SUM(c.convertedAmount), 0), " +
+                     "SUM(CASE WHEN c.createdAt >= :todayStart THEN 1L ELSE 0L END), " +
+                     "SUM(CASE WHEN c.createdAt >= :weekStart THEN 1L ELSE 0L END)) " +
+                     "FROM ConversionLog c GROUP BY c.status")
+       List<ConversionStatusSummary> summarizeByStatus(@Param("todayStart") LocalDateTime todayStart,
+                     @Param("weekStart") LocalDateTime weekStart);
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.loyalbridge.admin.repository;
+
+import com.loyalbridge.admin.model.ConversionLog;
+import com.loyalbridge.admin.model.ConversionStatus;
+import com.loyalbridge.admin.model.TransactionType;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA Specifications for ConversionLog searches
+ *
+ * Only the filters that are actually supplied become predicates, so status,
+ * partner_id and created_at filters can use their indexes
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public final class ConversionLogSpecifications {
+
+    private ConversionLogSpecifications() {
+    }
+
+    /**
+     * Conversions matching all supplied criteria; null filters are ignored
+     */
+    public static Specification<ConversionLog> matching(Long userId, Long partnerId, ConversionStatus status,
+                                                        TransactionType transactionType,
+                                                        LocalDateTime startDate, LocalDateTime endDate) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (userId != null) {
+                predicates.add(cb.equal(root.get("userId"), userId));
+            }
+            if (partnerId != null) {
+                predicates.add(cb.equal(root.get("partnerId"), partnerId));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (transactionType != null) {
+                predicates.add(cb.equal(root.get("transactionType"), transactionType));
+            }
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.loyalbridge.admin.repository;
+
+import com.loyalbridge.admin.model.JwtSigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for JwtSigningKey entity operations
+ *
+ * @author LoyalBridge Development Team
+ */
+@Repository
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+    /**
+     * All keys of the ring, newest first
+     */
+    List<JwtSigningKey> findAllByOrderByCreatedAtDesc();
+}
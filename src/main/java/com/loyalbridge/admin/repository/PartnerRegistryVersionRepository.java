@@ -0,0 +1,34 @@
+package com.loyalbridge.admin.repository;
+
+import com.loyalbridge.admin.model.PartnerRegistryVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for PartnerRegistryVersion entity operations
+ *
+ * @author LoyalBridge Development Team
+ */
+@Repository
+public interface PartnerRegistryVersionRepository extends JpaRepository<PartnerRegistryVersion, Integer> {
+
+    /**
+     * Read the current version without loading the entity
+     */
+    @Query("SELECT v.version FROM PartnerRegistryVersion v WHERE v.id = :id")
+    Optional<Long> findVersion(@Param("id") Integer id);
+
+    /**
+     * Bump the version, returning the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE PartnerRegistryVersion v SET v.version = v.version + 1, v.changedAt = :changedAt " +
+           "WHERE v.id = :id")
+    int increment(@Param("id") Integer id, @Param("changedAt") LocalDateTime changedAt);
+}
@@ -1,10 +1,11 @@
 package com.loyalbridge.admin.repository;
 
+import com.loyalbridge.admin.dto.PartnerRanking;
+import com.loyalbridge.admin.dto.PartnerStatsResponse;
 import com.loyalbridge.admin.model.AuthMethod;
 import com.loyalbridge.admin.model.Partner;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,7 +21,7 @@ import java.util.Optional;
  * @author LoyalBridge Development Team
  */
 @Repository
-public interface PartnerRepository extends JpaRepository<Partner, Long> {
+public interface PartnerRepository extends JpaRepository<Partner, Long>, JpaSpecificationExecutor<Partner> {
     
     /**
      * Find partner by name
@@ -32,16 +33,6 @@ public interface PartnerRepository extends JpaRepository<Partner, Long> {
      */
     boolean existsByName(String name);
     
-    /**
-     * Find partners with search criteria
-     */
-    @Query("SELECT p FROM Partner p WHERE " +
-           "(:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
-           "(:isActive IS NULL OR p.isActive = :isActive)")
-    Page<Partner> findPartnersWithCriteria(@Param("name") String name,
-                                         @Param("isActive") Boolean isActive,
-                                         Pageable pageable);
-
     /**
      * Find all active partners
      */
@@ -52,11 +43,6 @@ public interface PartnerRepository extends JpaRepository<Partner, Long> {
      */
     List<Partner> findByAuthMethod(AuthMethod authMethod);
     
-    /**
-     * Count active partners
-     */
-    long countByIsActive(boolean isActive);
-    
     /**
      * Count partners by auth method
      */
@@ -74,20 +60,24 @@ public interface PartnerRepository extends JpaRepository<Partner, Long> {
     List<Partner> findPartnersWithRecentTransactions(@Param("since") LocalDateTime since);
     
     /**
-     * Find top partners by transaction volume
+     * All partner statistics in one conditional-aggregation pass; amount processed counts active partners only
      */
-    @Query("SELECT p FROM Partner p ORDER BY p.totalTransactions DESC")
-    Page<Partner> findTopPartnersByTransactions(Pageable pageable);
-    
-    /**
-     * Find top partners by amount processed
-     */
-    @Query("SELECT p FROM Partner p ORDER BY p.totalAmountProcessed DESC")
-    Page<Partner> findTopPartnersByAmount(Pageable pageable);
-    
+    @Query("SELECT new com.loyalbridge.admin.dto.PartnerStatsResponse(COUNT(p), " +
+           "SUM(CASE WHEN p.isActive = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN p.isActive = false THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN p.isActive = true THEN p.totalAmountProcessed ELSE 0 END), " +
+           "SUM(p.totalTransactions)) " +
+           "FROM Partner p")
+    PartnerStatsResponse summarizeStats();
+
     /**
-     * Sum total amount processed by all partners
+     * Partners ranked first by transactions or by amount processed, from one ranked scan
      */
-    @Query("SELECT COALESCE(SUM(p.totalAmountProcessed), 0) FROM Partner p WHERE p.isActive = true")
-    BigDecimal sumTotalAmountProcessed();
+    @Query("SELECT new com.loyalbridge.admin.dto.PartnerRanking(r.name, r.transactionRank, r.amountRank) " +
+           "FROM (SELECT p.name AS name, " +
+           "ROW_NUMBER() OVER (ORDER BY p.totalTransactions DESC NULLS LAST, p.id) AS transactionRank, " +
+           "ROW_NUMBER() OVER (ORDER BY p.totalAmountProcessed DESC NULLS LAST, p.id) AS amountRank " +
+           "FROM Partner p) r " +
+           "WHERE r.transactionRank = 1 OR r.amountRank = 1")
+    List<PartnerRanking> findTopPartners();
 }
\ No newline at end of file
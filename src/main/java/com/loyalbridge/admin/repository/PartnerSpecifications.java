@@ -0,0 +1,44 @@
+package com.loyalbridge.admin.repository;
+
+import com.loyalbridge.admin.model.AuthMethod;
+import com.loyalbridge.admin.model.Partner;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA Specifications for Partner searches
+ *
+ * Only the filters that are actually supplied become predicates
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public final class PartnerSpecifications {
+
+    private PartnerSpecifications() {
+    }
+
+    /**
+     * Partners matching all supplied criteria; null or blank filters are ignored
+     */
+    public static Specification<Partner> matching(String name, AuthMethod authMethod, Boolean isActive) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (name != null && !name.isBlank()) {
+                predicates.add(cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
+            }
+            if (authMethod != null) {
+                predicates.add(cb.equal(root.get("authMethod"), authMethod));
+            }
+            if (isActive != null) {
+                predicates.add(cb.equal(root.get("isActive"), isActive));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
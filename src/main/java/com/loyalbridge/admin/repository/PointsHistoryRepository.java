@@ -1,5 +1,6 @@
 package com.loyalbridge.admin.repository;
 
+import com.loyalbridge.admin.dto.PointsHistoryResponse;
 import com.loyalbridge.admin.model.PointsHistory;
 import com.loyalbridge.admin.model.TransactionType;
 import org.springframework.data.domain.Page;
@@ -24,6 +25,16 @@ public interface PointsHistoryRepository extends JpaRepository<PointsHistory, Lo
      * Find points history by user
      */
     Page<PointsHistory> findByUserId(Long userId, Pageable pageable);
+
+    /**
+     * Find points history by user with partner names resolved in the same statement
+     */
+    @Query(value = "SELECT new com.loyalbridge.admin.dto.PointsHistoryResponse(h.id, h.transactionType, " +
+                   "h.amount, h.balanceAfter, h.description, p.name, h.referenceId, h.createdAt) " +
+                   "FROM PointsHistory h LEFT JOIN Partner p ON p.id = h.partnerId " +
+                   "WHERE h.userId = :userId",
+           countQuery = "SELECT COUNT(h) FROM PointsHistory h WHERE h.userId = :userId")
+    Page<PointsHistoryResponse> findHistoryResponsesByUserId(@Param("userId") Long userId, Pageable pageable);
     
     /**
      * Find points history by user and transaction type
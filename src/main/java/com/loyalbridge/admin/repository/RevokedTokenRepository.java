@@ -0,0 +1,47 @@
+package com.loyalbridge.admin.repository;
+
+import com.loyalbridge.admin.model.RevokedToken;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for RevokedToken entity operations
+ *
+ * @author LoyalBridge Development Team
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /**
+     * Unexpired revocations appended after the given id, oldest first
+     */
+    @Query("SELECT r FROM RevokedToken r WHERE r.id > :afterId AND r.expiresAt > :now ORDER BY r.id")
+    List<RevokedToken> findAppendedAfter(@Param("afterId") Long afterId,
+                                         @Param("now") LocalDateTime now,
+                                         Limit limit);
+
+    /**
+     * Unexpired revocations at or below the watermark recorded since the given time
+     *
+     * Catches rows whose identity was allocated before the watermark but whose
+     * transaction committed after it was read.
+     */
+    @Query("SELECT r FROM RevokedToken r WHERE r.id <= :watermark AND r.revokedAt >= :since AND r.expiresAt > :now")
+    List<RevokedToken> findLateCommitted(@Param("watermark") Long watermark,
+                                         @Param("since") LocalDateTime since,
+                                         @Param("now") LocalDateTime now);
+
+    /**
+     * Delete revocations of tokens that have expired
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,11 +1,16 @@
 package com.loyalbridge.admin.repository;
 
+import com.loyalbridge.admin.dto.UserStatsResponse;
 import com.loyalbridge.admin.model.User;
 import com.loyalbridge.admin.model.UserStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +18,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for User entity operations
@@ -20,7 +26,7 @@ import java.util.Optional;
  * @author LoyalBridge Development Team
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     
     /**
      * Find user by email
@@ -33,35 +39,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     
     /**
-     * Find users with advanced search criteria
+     * Stream the searchable text fields of all users (id, name, email, phone number)
      */
-    @Query("SELECT u FROM User u WHERE " +
-           "(:name IS NULL OR LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
-           "(:phone IS NULL OR u.phoneNumber LIKE CONCAT('%', :phone, '%')) AND " +
-           "(:status IS NULL OR u.status = :status) AND " +
-           "(:isHighRisk IS NULL OR u.isHighRisk = :isHighRisk) AND " +
-           "(:isVerified IS NULL OR u.isVerified = :isVerified)")
-    Page<User> findUsersWithCriteria(@Param("name") String name,
-                                   @Param("phone") String phone,
-                                   @Param("status") UserStatus status,
-                                   @Param("isHighRisk") Boolean isHighRisk,
-                                   @Param("isVerified") Boolean isVerified,
-                                   Pageable pageable);
+    @Query("SELECT u.id, u.name, u.email, u.phoneNumber FROM User u")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Object[]> streamSearchFields();
 
     /**
-     * Find users for export (no pagination)
+     * Stream the searchable text fields of users updated after the given time or added after the given id
      */
-    @Query("SELECT u FROM User u WHERE " +
-           "(:name IS NULL OR LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
-           "(:phone IS NULL OR u.phoneNumber LIKE CONCAT('%', :phone, '%')) AND " +
-           "(:status IS NULL OR u.status = :status) AND " +
-           "(:isHighRisk IS NULL OR u.isHighRisk = :isHighRisk) AND " +
-           "(:isVerified IS NULL OR u.isVerified = :isVerified)")
-    List<User> findUsersForExport(@Param("name") String name,
-                                @Param("phone") String phone,
-                                @Param("status") UserStatus status,
-                                @Param("isHighRisk") Boolean isHighRisk,
-                                @Param("isVerified") Boolean isVerified);
+    @Query("SELECT u.id, u.name, u.email, u.phoneNumber FROM User u WHERE u.updatedAt > :since OR u.id > :afterId")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Object[]> streamSearchFieldsChangedSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId);
 
     /**
      * Count users by status
@@ -69,32 +64,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     long countByStatus(UserStatus status);
     
     /**
-     * Count verified users
+     * All user statistics in one conditional-aggregation pass
      */
-    long countByIsVerified(boolean isVerified);
-    
-    /**
-     * Count high-risk users
-     */
-    long countByIsHighRisk(boolean isHighRisk);
-    
-    /**
-     * Sum total points in system
-     */
-    @Query("SELECT COALESCE(SUM(u.totalPoints), 0) FROM User u")
-    BigDecimal sumTotalPoints();
-    
-    /**
-     * Sum lifetime earnings
-     */
-    @Query("SELECT COALESCE(SUM(u.lifetimeEarnings), 0) FROM User u")
-    BigDecimal sumLifetimeEarnings();
-    
-    /**
-     * Sum lifetime redemptions
-     */
-    @Query("SELECT COALESCE(SUM(u.lifetimeRedemptions), 0) FROM User u")
-    BigDecimal sumLifetimeRedemptions();
+    @Query("SELECT new com.loyalbridge.admin.dto.UserStatsResponse(COUNT(u), " +
+           "SUM(CASE WHEN u.status = com.loyalbridge.admin.model.UserStatus.ACTIVE THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN u.status = com.loyalbridge.admin.model.UserStatus.FROZEN THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN u.status = com.loyalbridge.admin.model.UserStatus.SUSPENDED THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN u.status = com.loyalbridge.admin.model.UserStatus.INACTIVE THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN u.isVerified = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN u.isHighRisk = true THEN 1L ELSE 0L END), " +
+           "SUM(u.totalPoints), SUM(u.lifetimeEarnings), SUM(u.lifetimeRedemptions)) " +
+           "FROM User u")
+    UserStatsResponse summarizeStats();
     
     /**
      * Find users with points greater than amount
@@ -0,0 +1,67 @@
+package com.loyalbridge.admin.repository;
+
+import com.loyalbridge.admin.model.User;
+import com.loyalbridge.admin.model.UserStatus;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA Specifications for User searches
+ *
+ * Only the filters that are actually supplied become predicates, so the
+ * generated SQL contains no catch-all "IS NULL OR" branches
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    /**
+     * Users matching all supplied criteria; null or blank filters are ignored
+     */
+    public static Specification<User> matching(String name, String email, String phone, UserStatus status,
+                                               Boolean isHighRisk, Boolean isVerified) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (hasText(name)) {
+                predicates.add(cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
+            }
+            if (hasText(email)) {
+                predicates.add(cb.like(cb.lower(root.get("email")), "%" + email.toLowerCase() + "%"));
+            }
+            if (hasText(phone)) {
+                predicates.add(cb.like(root.get("phoneNumber"), "%" + phone + "%"));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (isHighRisk != null) {
+                predicates.add(cb.equal(root.get("isHighRisk"), isHighRisk));
+            }
+            if (isVerified != null) {
+                predicates.add(cb.equal(root.get("isVerified"), isVerified));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Users whose id is in the given candidate set
+     */
+    public static Specification<User> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
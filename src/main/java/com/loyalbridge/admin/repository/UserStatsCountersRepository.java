@@ -0,0 +1,48 @@
+package com.loyalbridge.admin.repository;
+
+import com.loyalbridge.admin.model.UserStatsCounters;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for UserStatsCounters entity operations
+ *
+ * @author LoyalBridge Development Team
+ */
+@Repository
+public interface UserStatsCountersRepository extends JpaRepository<UserStatsCounters, Integer> {
+
+    /**
+     * Apply count deltas to the counters row, returning the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE UserStatsCounters c SET " +
+           "c.activeUsers = c.activeUsers + :active, " +
+           "c.frozenUsers = c.frozenUsers + :frozen, " +
+           "c.suspendedUsers = c.suspendedUsers + :suspended, " +
+           "c.inactiveUsers = c.inactiveUsers + :inactive, " +
+           "c.verifiedUsers = c.verifiedUsers + :verified, " +
+           "c.highRiskUsers = c.highRiskUsers + :highRisk " +
+           "WHERE c.id = :id")
+    int applyDelta(@Param("id") Integer id,
+                   @Param("active") long active,
+                   @Param("frozen") long frozen,
+                   @Param("suspended") long suspended,
+                   @Param("inactive") long inactive,
+                   @Param("verified") long verified,
+                   @Param("highRisk") long highRisk);
+
+    /**
+     * Lock the counters row so a rebuild cannot interleave with deltas
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM UserStatsCounters c WHERE c.id = :id")
+    Optional<UserStatsCounters> findForUpdate(@Param("id") Integer id);
+}
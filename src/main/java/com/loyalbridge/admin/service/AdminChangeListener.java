@@ -0,0 +1,52 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.model.Admin;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener evicting cached admin state when an admin changes
+ *
+ * Clears the cached token version and user details. Eviction is deferred
+ * until the surrounding transaction commits so the next lookup reads the
+ * committed row
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class AdminChangeListener {
+
+    // Resolved lazily: the listener is created while the EntityManagerFactory is still being built
+    private final ObjectProvider<AdminTokenVersions> adminTokenVersions;
+    private final ObjectProvider<AdminUserDetailsService> adminUserDetailsService;
+
+    public AdminChangeListener(ObjectProvider<AdminTokenVersions> adminTokenVersions,
+                               ObjectProvider<AdminUserDetailsService> adminUserDetailsService) {
+        this.adminTokenVersions = adminTokenVersions;
+        this.adminUserDetailsService = adminUserDetailsService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Admin admin) {
+        Long adminId = admin.getId();
+        Runnable evict = () -> {
+            adminTokenVersions.getObject().evict(adminId);
+            adminUserDetailsService.getObject().evict(adminId);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+}
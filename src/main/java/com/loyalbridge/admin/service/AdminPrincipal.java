@@ -0,0 +1,73 @@
+package com.loyalbridge.admin.service;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Authenticated admin built from the claims of a verified access token
+ *
+ * Carries everything request handling needs (id, email, role) so the admin
+ * entity does not have to be loaded to authenticate a request.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public final class AdminPrincipal implements AuthenticatedPrincipal, Serializable {
+
+    private final Long adminId;
+    private final String email;
+    private final String role;
+    private final long tokenVersion;
+    private final String tokenId;
+    private final String keyId;
+    private final Instant expiresAt;
+    private final List<GrantedAuthority> authorities;
+
+    public AdminPrincipal(Long adminId, String email, String role, long tokenVersion,
+                          String tokenId, String keyId, Instant expiresAt) {
+        this.adminId = adminId;
+        this.email = email;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.tokenId = tokenId;
+        this.keyId = keyId;
+        this.expiresAt = expiresAt;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    @Override
+    public String getName() { return email; }
+
+    public Long getAdminId() { return adminId; }
+
+    public String getEmail() { return email; }
+
+    public String getRole() { return role; }
+
+    public long getTokenVersion() { return tokenVersion; }
+
+    public String getTokenId() { return tokenId; }
+
+    /**
+     * Kid of the key that signed the token, or null for a token signed with the shared secret
+     */
+    public String getKeyId() { return keyId; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+
+    public List<GrantedAuthority> getAuthorities() { return authorities; }
+
+    @Override
+    public String toString() {
+        return "AdminPrincipal{" +
+                "adminId=" + adminId +
+                ", email='" + email + '\'' +
+                ", role=" + role +
+                '}';
+    }
+}
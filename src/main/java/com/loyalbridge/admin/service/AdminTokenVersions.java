@@ -0,0 +1,65 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.repository.AdminRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of current token versions for active admins
+ *
+ * A token is honoured only while the version it carries matches the admin's
+ * current version. Deactivating an admin or changing their role or password
+ * bumps the version, revoking every token issued before the change without
+ * loading the admin entity on each request.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Component
+public class AdminTokenVersions {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminTokenVersions.class);
+
+    // Marks a deleted or inactive admin; no token carries a negative version
+    private static final long INACTIVE = -1L;
+
+    private record Entry(long version, long loadedAt) {}
+
+    private final AdminRepository adminRepository;
+    private final Map<Long, Entry> versions = new ConcurrentHashMap<>();
+
+    // Bounds staleness when another instance changes the admin
+    @Value("${loyalbridge.security.token-version-ttl-ms:30000}")
+    private long ttlMs;
+
+    public AdminTokenVersions(AdminRepository adminRepository) {
+        this.adminRepository = adminRepository;
+    }
+
+    /**
+     * Check that a token version is still current for an active admin
+     */
+    public boolean isCurrent(Long adminId, long tokenVersion) {
+        long now = System.currentTimeMillis();
+        Entry entry = versions.get(adminId);
+        if (entry == null || now - entry.loadedAt() > ttlMs) {
+            entry = new Entry(adminRepository.findActiveTokenVersion(adminId).orElse(INACTIVE), now);
+            versions.put(adminId, entry);
+        }
+        return entry.version() == tokenVersion;
+    }
+
+    /**
+     * Drop the cached version so the next request reloads it
+     */
+    public void evict(Long adminId) {
+        if (versions.remove(adminId) != null) {
+            logger.debug("Evicted cached token version for admin ID: {}", adminId);
+        }
+    }
+}
@@ -1,30 +1,42 @@
 package com.loyalbridge.admin.service;
 
+import com.loyalbridge.admin.config.CacheNames;
+import com.loyalbridge.admin.model.Admin;
 import com.loyalbridge.admin.repository.AdminRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Custom UserDetailsService for Spring Security
  * 
- * Loads admin user details for authentication
+ * Loads admin user details for authentication and stores passwords
+ * re-encoded at the current BCrypt cost. Loaded admins are kept in the
+ * adminDetails cache keyed by email; entries are evicted when the admin is
+ * saved (see {@link AdminChangeListener}) and expire after a short TTL so
+ * changes made on other nodes are picked up.
  * 
  * @author LoyalBridge Development Team
  * @version 1.0.0
  */
 @Service
-public class AdminUserDetailsService implements UserDetailsService {
+public class AdminUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private static final Logger logger = LoggerFactory.getLogger(AdminUserDetailsService.class);
     
     private final AdminRepository adminRepository;
+    private final Cache cache;
 
-    public AdminUserDetailsService(AdminRepository adminRepository) {
+    public AdminUserDetailsService(AdminRepository adminRepository, CacheManager cacheManager) {
         this.adminRepository = adminRepository;
+        this.cache = cacheManager.getCache(CacheNames.ADMIN_DETAILS);
     }
 
     /**
@@ -32,12 +44,52 @@ public class AdminUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return loadAdmin(email);
+    }
+
+    /**
+     * Load an admin by email, from the cache when fresh
+     *
+     * The returned entity is detached and shared; callers must not modify it.
+     */
+    public Admin loadAdmin(String email) throws UsernameNotFoundException {
+        Admin cached = cache.get(email, Admin.class);
+        if (cached != null) {
+            return cached;
+        }
+
         logger.debug("Loading user details for email: {}", email);
         
-        return adminRepository.findByEmail(email)
+        Admin admin = adminRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     logger.warn("Admin not found with email: {}", email);
                     return new UsernameNotFoundException("Admin not found with email: " + email);
                 });
+        cache.put(email, admin);
+        return admin;
+    }
+
+    /**
+     * Drop every cached entry for an admin, whichever email it was cached under
+     */
+    public void evict(Long adminId) {
+        // On the native cache: this already runs after commit, where a transaction-aware evict would be lost
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> admins) {
+            admins.asMap().values().removeIf(cached -> cached instanceof Admin admin && adminId.equals(admin.getId()));
+        }
+    }
+
+    /**
+     * Store a password hash re-encoded after a successful login
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Admin admin = adminRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Admin not found with email: " + user.getUsername()));
+
+        admin.upgradePasswordHash(newPassword);
+        logger.info("Re-encoded password hash for admin: {}", admin.getEmail());
+        return adminRepository.save(admin);
     }
-}
\ No newline at end of file
+}
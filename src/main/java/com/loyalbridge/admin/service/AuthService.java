@@ -2,7 +2,8 @@ package com.loyalbridge.admin.service;
 
 import com.loyalbridge.admin.dto.*;
 import com.loyalbridge.admin.model.Admin;
-import com.loyalbridge.admin.repository.AdminRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,7 +11,9 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,7 +22,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Authentication service for admin login, logout, and token management
@@ -33,45 +36,61 @@ public class AuthService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
 
-    private final AdminRepository adminRepository;
+    private final AdminUserDetailsService adminUserDetailsService;
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationLog tokenRevocationLog;
+    private final OtpStore otpStore;
+    private final LoginThrottle loginThrottle;
+    private final LastLoginRecorder lastLoginRecorder;
     
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    // In-memory storage for OTP (use Redis in production)
-    private final Map<String, String> otpStorage = new ConcurrentHashMap<>();
-    private final Map<String, LocalDateTime> otpExpiryStorage = new ConcurrentHashMap<>();
     
-    // Blacklisted tokens (use Redis in production)
-    private final Map<String, LocalDateTime> blacklistedTokens = new ConcurrentHashMap<>();
-
-    public AuthService(AdminRepository adminRepository, 
+    public AuthService(AdminUserDetailsService adminUserDetailsService, 
                       AuthenticationManager authenticationManager,
                       JwtService jwtService, 
-                      PasswordEncoder passwordEncoder) {
-        this.adminRepository = adminRepository;
+                      PasswordEncoder passwordEncoder,
+                      TokenRevocationLog tokenRevocationLog,
+                      OtpStore otpStore,
+                      LoginThrottle loginThrottle,
+                      LastLoginRecorder lastLoginRecorder) {
+        this.adminUserDetailsService = adminUserDetailsService;
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
         this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationLog = tokenRevocationLog;
+        this.otpStore = otpStore;
+        this.loginThrottle = loginThrottle;
+        this.lastLoginRecorder = lastLoginRecorder;
     }
 
     /**
      * Authenticate admin and return login response
+     *
+     * @throws LoginThrottledException if the email or client IP has too many recent failures
      */
-    public LoginResponse login(LoginRequest request) {
+    public LoginResponse login(LoginRequest request, String clientIp) {
         logger.info("Login attempt for email: {}", request.getEmail());
         
+        // Reject throttled attempts before paying for the password hash check
+        loginThrottle.checkAllowed(request.getEmail(), clientIp);
+        
         try {
             // Authenticate user
-            Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-            );
+            try {
+                authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
+                );
+            } catch (AuthenticationException e) {
+                loginThrottle.recordFailure(request.getEmail(), clientIp);
+                throw e;
+            }
+            loginThrottle.recordSuccess(request.getEmail());
 
-            Admin admin = adminRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new BadCredentialsException("Invalid credentials"));
+            Admin admin = findAdmin(request.getEmail());
 
             // Check if admin is active
             if (!admin.getIsActive()) {
@@ -79,9 +98,8 @@ public class AuthService {
                 throw new BadCredentialsException("Account is inactive");
             }
 
-            // Update last login
-            admin.setLastLogin(LocalDateTime.now());
-            admin = adminRepository.save(admin);
+            // Record last login; persisted in batches off the login path
+            lastLoginRecorder.record(admin.getId(), LocalDateTime.now());
 
             // For demo purposes, randomly require 2FA (20% chance)
             boolean requires2FA = shouldRequire2FA(admin);
@@ -105,9 +123,7 @@ public class AuthService {
      */
     private LoginResponse handle2FAFlow(Admin admin) {
         // Generate and store OTP
-        String otp = generateOTP();
-        otpStorage.put(admin.getEmail(), otp);
-        otpExpiryStorage.put(admin.getEmail(), LocalDateTime.now().plusMinutes(5));
+        String otp = otpStore.issue(admin.getEmail());
         
         // In real implementation, send OTP via email/SMS
         logger.info("Generated OTP for {}: {} (This would be sent via email/SMS)", admin.getEmail(), otp);
@@ -124,32 +140,27 @@ public class AuthService {
     public LoginResponse verify2FA(TwoFactorRequest request) {
         logger.info("2FA verification attempt for email: {}", request.getEmail());
         
-        String storedOtp = otpStorage.get(request.getEmail());
-        LocalDateTime expiryTime = otpExpiryStorage.get(request.getEmail());
-        
-        if (storedOtp == null || expiryTime == null) {
-            logger.warn("OTP not found or expired for email: {}", request.getEmail());
-            throw new BadCredentialsException("OTP not found or expired. Please login again.");
-        }
-        
-        if (LocalDateTime.now().isAfter(expiryTime)) {
-            otpStorage.remove(request.getEmail());
-            otpExpiryStorage.remove(request.getEmail());
-            logger.warn("OTP expired for email: {}", request.getEmail());
-            throw new BadCredentialsException("OTP has expired. Please login again.");
-        }
-        
-        if (!storedOtp.equals(request.getOtp())) {
-            logger.warn("Invalid OTP for email: {}", request.getEmail());
-            throw new BadCredentialsException("Invalid OTP. Please try again.");
+        switch (otpStore.verify(request.getEmail(), request.getOtp())) {
+            case VERIFIED -> { }
+            case NOT_FOUND -> {
+                logger.warn("OTP not found or expired for email: {}", request.getEmail());
+                throw new BadCredentialsException("OTP not found or expired. Please login again.");
+            }
+            case EXPIRED -> {
+                logger.warn("OTP expired for email: {}", request.getEmail());
+                throw new BadCredentialsException("OTP has expired. Please login again.");
+            }
+            case LOCKED_OUT -> {
+                logger.warn("Too many invalid OTP attempts for email: {}", request.getEmail());
+                throw new BadCredentialsException("Too many invalid attempts. Please login again.");
+            }
+            case INVALID -> {
+                logger.warn("Invalid OTP for email: {}", request.getEmail());
+                throw new BadCredentialsException("Invalid OTP. Please try again.");
+            }
         }
         
-        // Remove OTP after successful verification
-        otpStorage.remove(request.getEmail());
-        otpExpiryStorage.remove(request.getEmail());
-        
-        Admin admin = adminRepository.findByEmail(request.getEmail())
-            .orElseThrow(() -> new BadCredentialsException("Admin not found"));
+        Admin admin = findAdmin(request.getEmail());
 
         logger.info("2FA verification successful for admin: {}", request.getEmail());
         return generateTokenResponse(admin);
@@ -159,21 +170,39 @@ public class AuthService {
      * Generate token response for successful authentication
      */
     private LoginResponse generateTokenResponse(Admin admin) {
-        // Add admin role to token claims
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("role", admin.getRole().name());
-        claims.put("adminId", admin.getId());
-        
-        String accessToken = jwtService.generateToken(claims, admin);
-        String refreshToken = jwtService.generateRefreshToken(admin);
+        String accessToken = jwtService.generateToken(accessTokenClaims(admin), admin);
+        String refreshToken = jwtService.generateRefreshToken(refreshTokenClaims(admin), admin);
 
         AdminInfoResponse adminInfo = convertToAdminInfo(admin);
         
         return new LoginResponse(accessToken, refreshToken, jwtExpiration, adminInfo);
     }
 
+    /**
+     * Claims the authentication filter builds the request principal from
+     */
+    private Map<String, Object> accessTokenClaims(Admin admin) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("role", admin.getRole().name());
+        claims.put("adminId", admin.getId());
+        claims.put("ver", admin.getTokenVersion());
+        return claims;
+    }
+
+    /**
+     * Claims a refresh token is checked against before it may mint a new access token
+     */
+    private Map<String, Object> refreshTokenClaims(Admin admin) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("ver", admin.getTokenVersion());
+        return claims;
+    }
+
     /**
      * Refresh access token using refresh token
+     *
+     * The refresh token must carry the admin's current token version, so a
+     * password, role or active change revokes refresh tokens along with access tokens.
      */
     public TokenResponse refreshToken(String refreshToken) {
         logger.debug("Token refresh attempt");
@@ -185,20 +214,20 @@ public class AuthService {
 
         try {
             String email = jwtService.extractUsername(refreshToken);
-            Admin admin = adminRepository.findByEmail(email)
-                .orElseThrow(() -> new BadCredentialsException("Admin not found"));
+            Admin admin = findAdmin(email);
 
             if (!jwtService.isTokenValid(refreshToken, admin)) {
                 logger.warn("Invalid refresh token for admin: {}", email);
                 throw new BadCredentialsException("Invalid refresh token");
             }
 
-            // Add claims to new token
-            Map<String, Object> claims = new HashMap<>();
-            claims.put("role", admin.getRole().name());
-            claims.put("adminId", admin.getId());
-            
-            String newAccessToken = jwtService.generateToken(claims, admin);
+            Long version = jwtService.extractClaim(refreshToken, claims -> claims.get("ver", Long.class));
+            if (!admin.getIsActive() || version == null || version != admin.getTokenVersion()) {
+                logger.warn("Refresh token revoked for admin: {}", email);
+                throw new BadCredentialsException("Refresh token has been revoked");
+            }
+
+            String newAccessToken = jwtService.generateToken(accessTokenClaims(admin), admin);
             
             logger.debug("Token refresh successful for admin: {}", email);
             return new TokenResponse(newAccessToken, jwtExpiration);
@@ -210,18 +239,19 @@ public class AuthService {
     }
 
     /**
-     * Logout admin by blacklisting token
+     * Logout admin by revoking token until it expires
      */
     public void logout(String authHeader) {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            blacklistedTokens.put(token, LocalDateTime.now());
             
             try {
-                String email = jwtService.extractUsername(token);
-                logger.info("Logout successful for admin: {}", email);
-            } catch (Exception e) {
-                logger.debug("Could not extract email from token during logout");
+                Claims claims = jwtService.extractClaim(token, Function.identity());
+                tokenRevocationLog.revoke(JwtService.tokenId(claims, token), claims.getExpiration().toInstant());
+                logger.info("Logout successful for admin: {}", claims.getSubject());
+            } catch (JwtException e) {
+                // An invalid or expired token cannot be used again anyway
+                logger.debug("Could not parse token during logout: {}", e.getMessage());
             }
         }
         
@@ -239,8 +269,7 @@ public class AuthService {
         }
 
         String email = authentication.getName();
-        Admin admin = adminRepository.findByEmail(email)
-            .orElseThrow(() -> new BadCredentialsException("Admin not found"));
+        Admin admin = findAdmin(email);
 
         return convertToAdminInfo(admin);
     }
@@ -249,7 +278,23 @@ public class AuthService {
      * Check if token is blacklisted
      */
     public boolean isTokenBlacklisted(String token) {
-        return blacklistedTokens.containsKey(token);
+        try {
+            Claims claims = jwtService.extractClaim(token, Function.identity());
+            return tokenRevocationLog.isRevoked(JwtService.tokenId(claims, token));
+        } catch (JwtException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Look up an admin through the cached details service
+     */
+    private Admin findAdmin(String email) {
+        try {
+            return adminUserDetailsService.loadAdmin(email);
+        } catch (UsernameNotFoundException e) {
+            throw new BadCredentialsException("Admin not found");
+        }
     }
 
     /**
@@ -265,14 +310,6 @@ public class AuthService {
         return new Random().nextInt(5) == 0; // 20% chance
     }
 
-    /**
-     * Generate 6-digit OTP
-     */
-    private String generateOTP() {
-        Random random = new Random();
-        return String.format("%06d", random.nextInt(1000000));
-    }
-
     /**
      * Convert Admin entity to AdminInfoResponse DTO
      */
@@ -284,25 +321,8 @@ public class AuthService {
             admin.getLastName(),
             admin.getRole().name(),
             admin.getIsActive(),
-            admin.getLastLogin(),
+            lastLoginRecorder.latest(admin.getId(), admin.getLastLogin()),
             admin.getCreatedAt()
         );
     }
-
-    /**
-     * Clean up expired OTPs and blacklisted tokens periodically
-     */
-    public void cleanup() {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Remove expired OTPs
-        otpExpiryStorage.entrySet().removeIf(entry -> now.isAfter(entry.getValue()));
-        otpStorage.entrySet().removeIf(entry -> !otpExpiryStorage.containsKey(entry.getKey()));
-        
-        // Remove old blacklisted tokens (older than 24 hours)
-        LocalDateTime dayAgo = now.minusHours(24);
-        blacklistedTokens.entrySet().removeIf(entry -> entry.getValue().isBefore(dayAgo));
-        
-        logger.debug("Cleaned up expired OTPs and old blacklisted tokens");
-    }
 }
\ No newline at end of file
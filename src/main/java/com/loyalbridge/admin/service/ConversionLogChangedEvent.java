@@ -0,0 +1,29 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.model.ConversionStatus;
+
+/**
+ * Application event published when a conversion log is created or changes status
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class ConversionLogChangedEvent {
+
+    private final Long conversionId;
+    private final ConversionStatus previousStatus;
+
+    public ConversionLogChangedEvent(Long conversionId, ConversionStatus previousStatus) {
+        this.conversionId = conversionId;
+        this.previousStatus = previousStatus;
+    }
+
+    public Long getConversionId() { return conversionId; }
+
+    /**
+     * Status before the change, or null for a newly created conversion
+     */
+    public ConversionStatus getPreviousStatus() { return previousStatus; }
+
+    public boolean isCreated() { return previousStatus == null; }
+}
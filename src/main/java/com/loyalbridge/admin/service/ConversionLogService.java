@@ -0,0 +1,270 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.config.CacheNames;
+import com.loyalbridge.admin.dto.ConversionResponse;
+import com.loyalbridge.admin.dto.ConversionSearchCriteria;
+import com.loyalbridge.admin.dto.CursorPage;
+import com.loyalbridge.admin.model.ConversionLog;
+import com.loyalbridge.admin.model.ConversionStatus;
+import com.loyalbridge.admin.model.TransactionType;
+import com.loyalbridge.admin.repository.ConversionLogRepository;
+import com.loyalbridge.admin.repository.ConversionLogSpecifications;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Service for writing, searching and exporting conversion logs
+ *
+ * All conversion writes go through here so the daily rollup stays in step
+ * with conversion_logs within the same transaction
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class ConversionLogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConversionLogService.class);
+
+    private static final String CONVERSION_CSV_HEADER =
+        "ID,Reference ID,User ID,Partner ID,Transaction Type,Status,Points Amount,Converted Amount,Conversion Rate,Partner Transaction ID,Error Message,Created At,Completed At";
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
+    /** Non-null properties usable as keyset sort keys, with parsers for their cursor values */
+    private static final Map<String, Function<String, ?>> CONVERSION_SORT_KEYS = Map.of(
+        "createdAt", LocalDateTime::parse,
+        "pointsAmount", BigDecimal::new,
+        "id", Long::valueOf
+    );
+
+    private final ConversionLogRepository conversionLogRepository;
+    private final ConversionRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    public ConversionLogService(ConversionLogRepository conversionLogRepository,
+                                ConversionRollupService rollupService,
+                                ApplicationEventPublisher eventPublisher,
+                                EntityManager entityManager) {
+        this.conversionLogRepository = conversionLogRepository;
+        this.rollupService = rollupService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Record a new conversion
+     */
+    @CacheEvict(cacheNames = {CacheNames.CONVERSION_STATS, CacheNames.CONVERSION_TRENDS}, allEntries = true)
+    public ConversionLog createConversion(ConversionLog log) {
+        ConversionLog saved = conversionLogRepository.save(log);
+        rollupService.recordConversion(saved);
+        eventPublisher.publishEvent(new ConversionLogChangedEvent(saved.getId(), null));
+
+        logger.debug("Recorded conversion {} with status {}", saved.getId(), saved.getStatus());
+        return saved;
+    }
+
+    /**
+     * Update the status of an existing conversion
+     */
+    @CacheEvict(cacheNames = {CacheNames.CONVERSION_STATS, CacheNames.CONVERSION_TRENDS}, allEntries = true)
+    public ConversionLog updateConversionStatus(Long id, ConversionStatus newStatus, String errorMessage) {
+        ConversionLog log = conversionLogRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Conversion not found with ID: " + id));
+
+        ConversionStatus oldStatus = log.getStatus();
+        switch (newStatus) {
+            case COMPLETED -> log.markCompleted();
+            case FAILED -> log.markFailed(errorMessage);
+            default -> log.setStatus(newStatus);
+        }
+
+        log = conversionLogRepository.save(log);
+        rollupService.recordStatusChange(log, oldStatus);
+        eventPublisher.publishEvent(new ConversionLogChangedEvent(log.getId(), oldStatus));
+
+        logger.info("Conversion {} status changed from {} to {}", id, oldStatus, newStatus);
+        return log;
+    }
+
+    /**
+     * Search conversions with criteria and offset pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<ConversionResponse> searchConversions(ConversionSearchCriteria criteria, Pageable pageable) {
+        logger.debug("Searching conversions with criteria: {}", criteria);
+
+        return conversionLogRepository.findAll(
+            ConversionLogSpecifications.matching(
+                criteria.getUserId(),
+                criteria.getPartnerId(),
+                parseStatus(criteria.getStatus()),
+                parseTransactionType(criteria.getTransactionType()),
+                criteria.getStartDate(),
+                criteria.getEndDate()),
+            pageable
+        ).map(this::convertToConversionResponse);
+    }
+
+    /**
+     * Search conversions with criteria using keyset pagination (no count query)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ConversionResponse> scrollConversions(ConversionSearchCriteria criteria, String after, int size,
+                                                            String sortBy, Sort.Direction direction) {
+        logger.debug("Scrolling conversions with criteria: {}, after: {}", criteria, after);
+
+        Sort sort = KeysetCursor.sort(sortBy, direction, CONVERSION_SORT_KEYS);
+        KeysetScrollPosition position = KeysetCursor.decode(after, sortBy, direction, CONVERSION_SORT_KEYS);
+
+        Window<ConversionLog> window = conversionLogRepository.findBy(
+            ConversionLogSpecifications.matching(
+                criteria.getUserId(),
+                criteria.getPartnerId(),
+                parseStatus(criteria.getStatus()),
+                parseTransactionType(criteria.getTransactionType()),
+                criteria.getStartDate(),
+                criteria.getEndDate()),
+            query -> query.sortBy(sort).limit(size).scroll(position));
+
+        return KeysetCursor.toPage(window, this::convertToConversionResponse, sortBy, direction);
+    }
+
+    /**
+     * Write at most maxRecords conversions matching the criteria as CSV to the given stream
+     *
+     * Rows are read through a forward-only cursor and the persistence context is
+     * cleared periodically, so memory stays flat regardless of export size
+     */
+    @Transactional(readOnly = true)
+    public long writeConversionsCsv(ConversionSearchCriteria criteria, OutputStream outputStream,
+                                    long maxRecords, ExportProgress progress) throws IOException {
+        logger.info("Exporting conversions to CSV with criteria: {}", criteria);
+
+        ConversionStatus status = parseStatus(criteria.getStatus());
+        TransactionType transactionType = parseTransactionType(criteria.getTransactionType());
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        CsvWriter csv = new CsvWriter(writer);
+        csv.header(CONVERSION_CSV_HEADER);
+
+        long rows = 0;
+        try (Stream<ConversionLog> conversions = conversionLogRepository.streamConversionsForExport(
+                criteria.getUserId(),
+                criteria.getPartnerId(),
+                status,
+                transactionType,
+                criteria.getStartDate(),
+                criteria.getEndDate())) {
+
+            Iterator<ConversionLog> iterator = conversions.iterator();
+            while (iterator.hasNext()) {
+                if (rows >= maxRecords) {
+                    progress.truncated();
+                    break;
+                }
+                writeConversionRow(csv, iterator.next());
+                if (++rows % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    progress.rowsWritten(rows);
+                }
+            }
+        }
+
+        csv.flush();
+        progress.rowsWritten(rows);
+        logger.info("Exported {} conversions to CSV", rows);
+        return rows;
+    }
+
+    /**
+     * Write one conversion as a CSV row
+     */
+    private void writeConversionRow(CsvWriter csv, ConversionLog log) throws IOException {
+        csv.field(log.getId())
+           .field(log.getReferenceId())
+           .field(log.getUserId())
+           .field(log.getPartnerId())
+           .field(log.getTransactionType())
+           .field(log.getStatus())
+           .field(log.getPointsAmount())
+           .field(log.getConvertedAmount())
+           .field(log.getConversionRate() != null ? log.getConversionRate().toPlainString() : null)
+           .field(log.getPartnerTransactionId())
+           .field(log.getErrorMessage())
+           .field(log.getCreatedAt())
+           .field(log.getCompletedAt())
+           .endRow();
+    }
+
+    /**
+     * Convert ConversionLog entity to ConversionResponse DTO
+     */
+    private ConversionResponse convertToConversionResponse(ConversionLog log) {
+        ConversionResponse response = new ConversionResponse();
+        response.setId(log.getId());
+        response.setReferenceId(log.getReferenceId());
+        response.setUserId(log.getUserId());
+        response.setPartnerId(log.getPartnerId());
+        response.setTransactionType(log.getTransactionType().name());
+        response.setStatus(log.getStatus().name());
+        response.setPointsAmount(log.getPointsAmount());
+        response.setConvertedAmount(log.getConvertedAmount());
+        response.setConversionRate(log.getConversionRate());
+        response.setDescription(log.getDescription());
+        response.setPartnerTransactionId(log.getPartnerTransactionId());
+        response.setErrorMessage(log.getErrorMessage());
+        response.setCreatedAt(log.getCreatedAt());
+        response.setCompletedAt(log.getCompletedAt());
+        return response;
+    }
+
+    private ConversionStatus parseStatus(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return ConversionStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid conversion status provided: {}", status);
+            return null;
+        }
+    }
+
+    private TransactionType parseTransactionType(String transactionType) {
+        if (transactionType == null || transactionType.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return TransactionType.valueOf(transactionType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid transaction type provided: {}", transactionType);
+            return null;
+        }
+    }
+}
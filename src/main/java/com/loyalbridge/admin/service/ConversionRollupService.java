@@ -0,0 +1,187 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.model.ConversionDailyRollupId;
+import com.loyalbridge.admin.model.ConversionLog;
+import com.loyalbridge.admin.model.ConversionStatus;
+import com.loyalbridge.admin.repository.ConversionDailyRollupRepository;
+import com.loyalbridge.admin.repository.ConversionLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Service maintaining the conversion_daily_rollup table
+ *
+ * Rollup buckets are updated in the caller's transaction whenever a conversion
+ * is written or changes status, and can be rebuilt from the raw log for backfills
+ *
+ * Both paths write through plain SQL inside a savepoint. Two transactions
+ * creating the same bucket, or a rebuild racing a write, end in a duplicate
+ * key for one of them; it rolls back to its savepoint and retries, now seeing
+ * the committed row, instead of failing the conversion write.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class ConversionRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConversionRollupService.class);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final String UPSERT_BUCKET =
+        "MERGE INTO conversion_daily_rollup r " +
+        "USING (VALUES (CAST(? AS DATE), CAST(? AS BIGINT), CAST(? AS VARCHAR(32)), CAST(? AS VARCHAR(32)), " +
+        "CAST(? AS BIGINT), CAST(? AS DECIMAL(14,2)), CAST(? AS DECIMAL(14,2)))) " +
+        "AS d(conversion_date, partner_id, transaction_type, status, conversion_count, total_points, total_amount) " +
+        "ON r.conversion_date = d.conversion_date AND r.partner_id = d.partner_id " +
+        "AND r.transaction_type = d.transaction_type AND r.status = d.status " +
+        "WHEN MATCHED THEN UPDATE SET conversion_count = r.conversion_count + d.conversion_count, " +
+        "total_points = r.total_points + d.total_points, total_amount = r.total_amount + d.total_amount " +
+        "WHEN NOT MATCHED THEN INSERT (conversion_date, partner_id, transaction_type, status, " +
+        "conversion_count, total_points, total_amount) VALUES (d.conversion_date, d.partner_id, " +
+        "d.transaction_type, d.status, d.conversion_count, d.total_points, d.total_amount)";
+
+    // Waits for writers holding bucket rows, so their conversions are committed before the aggregate reads them
+    private static final String LOCK_BUCKETS =
+        "SELECT conversion_date FROM conversion_daily_rollup WHERE conversion_date >= ? FOR UPDATE";
+
+    private static final String DELETE_BUCKETS =
+        "DELETE FROM conversion_daily_rollup WHERE conversion_date >= ?";
+
+    private static final String INSERT_AGGREGATE =
+        "INSERT INTO conversion_daily_rollup (conversion_date, partner_id, transaction_type, status, " +
+        "conversion_count, total_points, total_amount) " +
+        "SELECT CAST(c.created_at AS DATE), c.partner_id, c.transaction_type, c.status, COUNT(*), " +
+        "COALESCE(SUM(c.points_amount), 0), COALESCE(SUM(c.converted_amount), 0) " +
+        "FROM conversion_logs c WHERE c.created_at >= ? " +
+        "GROUP BY CAST(c.created_at AS DATE), c.partner_id, c.transaction_type, c.status";
+
+    private final ConversionDailyRollupRepository rollupRepository;
+    private final ConversionLogRepository conversionLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ConversionRollupService(ConversionDailyRollupRepository rollupRepository,
+                                   ConversionLogRepository conversionLogRepository,
+                                   JdbcTemplate jdbcTemplate) {
+        this.rollupRepository = rollupRepository;
+        this.conversionLogRepository = conversionLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Add a newly written conversion to its rollup bucket
+     */
+    public void recordConversion(ConversionLog log) {
+        applyDelta(ConversionDailyRollupId.of(log, log.getStatus()), log, 1);
+    }
+
+    /**
+     * Move a conversion from its old status bucket to its current one
+     */
+    public void recordStatusChange(ConversionLog log, ConversionStatus oldStatus) {
+        if (oldStatus == log.getStatus()) {
+            return;
+        }
+        applyDelta(ConversionDailyRollupId.of(log, oldStatus), log, -1);
+        applyDelta(ConversionDailyRollupId.of(log, log.getStatus()), log, 1);
+    }
+
+    /**
+     * Rebuild rollup buckets from the raw conversion log, starting at the given day
+     *
+     * Existing buckets are locked first, so a concurrent conversion is either
+     * committed before the aggregate (and counted in it) or applied on top of
+     * the rebuilt bucket once the rebuild commits.
+     */
+    public int rebuild(LocalDate from) {
+        logger.info("Rebuilding conversion daily rollup from {}", from);
+
+        Date fromDate = Date.valueOf(from);
+        Timestamp since = Timestamp.valueOf(from.atStartOfDay());
+        int[] counts = withRetry("rebuild from " + from, () -> {
+            jdbcTemplate.queryForList(LOCK_BUCKETS, fromDate);
+            int deleted = jdbcTemplate.update(DELETE_BUCKETS, fromDate);
+            int written = jdbcTemplate.update(INSERT_AGGREGATE, since);
+            return new int[] {deleted, written};
+        });
+
+        logger.info("Conversion daily rollup rebuilt: {} buckets removed, {} buckets written",
+                   counts[0], counts[1]);
+        return counts[1];
+    }
+
+    /**
+     * Backfill the rollup on startup when it is empty but conversion logs exist
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeRollup() {
+        if (rollupRepository.count() == 0 && conversionLogRepository.count() > 0) {
+            logger.info("Conversion daily rollup is empty, running initial backfill");
+            rebuild(LocalDate.of(1970, 1, 1));
+        }
+    }
+
+    /**
+     * Apply a signed delta for one conversion to a rollup bucket, creating the bucket if needed
+     */
+    private void applyDelta(ConversionDailyRollupId id, ConversionLog log, int sign) {
+        BigDecimal points = signed(log.getPointsAmount(), sign);
+        BigDecimal amount = signed(log.getConvertedAmount(), sign);
+
+        if (sign < 0) {
+            if (rollupRepository.applyDelta(id, sign, points, amount) == 0) {
+                logger.warn("Rollup bucket {} missing while removing conversion {}; rebuild the rollup to resync",
+                           id, log.getId());
+            }
+            return;
+        }
+
+        withRetry("bucket " + id, () -> jdbcTemplate.update(UPSERT_BUCKET,
+            Date.valueOf(id.getConversionDate()), id.getPartnerId(), id.getTransactionType().name(),
+            id.getStatus().name(), 1L, points, amount));
+    }
+
+    /**
+     * Run a write in a savepoint, retrying when a concurrent transaction created the same bucket first
+     */
+    private <T> T withRetry(String description, Supplier<T> write) {
+        // The callback gets the connection bound to the caller's transaction
+        return jdbcTemplate.execute((ConnectionCallback<T>) connection -> {
+            for (int attempt = 1; ; attempt++) {
+                Savepoint savepoint = connection.setSavepoint();
+                try {
+                    T result = write.get();
+                    connection.releaseSavepoint(savepoint);
+                    return result;
+                } catch (DataIntegrityViolationException e) {
+                    connection.rollback(savepoint);
+                    if (attempt >= MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                    logger.debug("Concurrent rollup write on {}, retrying (attempt {})", description, attempt);
+                }
+            }
+        });
+    }
+
+    private BigDecimal signed(BigDecimal value, int sign) {
+        BigDecimal safe = value != null ? value : BigDecimal.ZERO;
+        return sign < 0 ? safe.negate() : safe;
+    }
+}
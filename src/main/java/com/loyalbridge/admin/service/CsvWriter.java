@@ -0,0 +1,164 @@
+package com.loyalbridge.admin.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * Minimal CSV row writer used by the export paths
+ *
+ * Formats values by appending directly to the underlying writer instead of
+ * going through String.format, so per-row cost stays allocation-light on
+ * exports with millions of rows. Not thread-safe.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public final class CsvWriter {
+
+    private final Writer out;
+    private boolean firstField = true;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Write a pre-built header line
+     */
+    public CsvWriter header(String line) throws IOException {
+        out.write(line);
+        out.write('\n');
+        return this;
+    }
+
+    /**
+     * Write a text field, quoting it when it contains separators, quotes or line breaks
+     */
+    public CsvWriter field(String value) throws IOException {
+        separator();
+        if (value == null) {
+            return this;
+        }
+        if (needsQuoting(value)) {
+            out.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    out.write('"');
+                }
+                out.write(c);
+            }
+            out.write('"');
+        } else {
+            out.write(value);
+        }
+        return this;
+    }
+
+    /**
+     * Write a numeric identifier
+     */
+    public CsvWriter field(Long value) throws IOException {
+        separator();
+        if (value != null) {
+            out.write(Long.toString(value));
+        }
+        return this;
+    }
+
+    /**
+     * Write an amount with two decimal places
+     */
+    public CsvWriter field(BigDecimal value) throws IOException {
+        separator();
+        if (value != null) {
+            out.write(value.setScale(2, RoundingMode.HALF_UP).toPlainString());
+        }
+        return this;
+    }
+
+    /**
+     * Write a boolean flag as true/false
+     */
+    public CsvWriter field(Boolean value) throws IOException {
+        separator();
+        if (value != null) {
+            out.write(value ? "true" : "false");
+        }
+        return this;
+    }
+
+    /**
+     * Write an enum constant by name
+     */
+    public CsvWriter field(Enum<?> value) throws IOException {
+        separator();
+        if (value != null) {
+            out.write(value.name());
+        }
+        return this;
+    }
+
+    /**
+     * Write a timestamp as yyyy-MM-dd HH:mm:ss
+     */
+    public CsvWriter field(LocalDateTime value) throws IOException {
+        separator();
+        if (value != null) {
+            pad(value.getYear(), 4);
+            out.write('-');
+            pad(value.getMonthValue(), 2);
+            out.write('-');
+            pad(value.getDayOfMonth(), 2);
+            out.write(' ');
+            pad(value.getHour(), 2);
+            out.write(':');
+            pad(value.getMinute(), 2);
+            out.write(':');
+            pad(value.getSecond(), 2);
+        }
+        return this;
+    }
+
+    /**
+     * Terminate the current row
+     */
+    public void endRow() throws IOException {
+        out.write('\n');
+        firstField = true;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void separator() throws IOException {
+        if (firstField) {
+            firstField = false;
+        } else {
+            out.write(',');
+        }
+    }
+
+    private void pad(int value, int width) throws IOException {
+        for (int limit = 10, digits = 1; digits < width; limit *= 10, digits++) {
+            if (value < limit) {
+                out.write('0');
+            }
+        }
+        out.write(Integer.toString(value));
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,13 +1,16 @@
 package com.loyalbridge.admin.service;
 
+import com.loyalbridge.admin.config.CacheNames;
 import com.loyalbridge.admin.dto.*;
 import com.loyalbridge.admin.model.*;
 import com.loyalbridge.admin.repository.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -16,6 +19,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Service for dashboard analytics and overview data
@@ -31,46 +39,76 @@ public class DashboardService {
     private final UserService userService;
     private final PartnerService partnerService;
     private final ConversionLogRepository conversionLogRepository;
-    private final UserRepository userRepository;
-    private final PartnerRepository partnerRepository;
+    private final ConversionDailyRollupRepository rollupRepository;
+    private final SystemHealthService systemHealthService;
+    private final ExecutorService dashboardExecutor;
+    private final SingleFlight singleFlight;
+    // Proxy of this service, so sections computed here go through the cache
+    private final DashboardService self;
+
+    @Value("${loyalbridge.dashboard.section-timeout-ms:2000}")
+    private long sectionTimeoutMs;
 
     public DashboardService(UserService userService,
             PartnerService partnerService,
             ConversionLogRepository conversionLogRepository,
-            UserRepository userRepository,
-            PartnerRepository partnerRepository) {
+            ConversionDailyRollupRepository rollupRepository,
+            SystemHealthService systemHealthService,
+            @Qualifier("dashboardExecutor") ExecutorService dashboardExecutor,
+            SingleFlight singleFlight,
+            @Lazy DashboardService self) {
         this.userService = userService;
         this.partnerService = partnerService;
         this.conversionLogRepository = conversionLogRepository;
-        this.userRepository = userRepository;
-        this.partnerRepository = partnerRepository;
+        this.rollupRepository = rollupRepository;
+        this.systemHealthService = systemHealthService;
+        this.dashboardExecutor = dashboardExecutor;
+        this.singleFlight = singleFlight;
+        this.self = self;
     }
 
     /**
      * Get comprehensive dashboard overview
+     *
+     * Sections are computed concurrently; a section that fails or misses its
+     * deadline is left empty and reported in degradedSections. Concurrent
+     * callers share one in-flight overview.
      */
     public DashboardResponse getDashboardOverview() {
+        return singleFlight.execute("dashboardOverview", this::buildDashboardOverview);
+    }
+
+    private DashboardResponse buildDashboardOverview() {
         logger.debug("Getting dashboard overview");
 
         DashboardResponse dashboard = new DashboardResponse();
-
-        // Get user statistics
-        dashboard.setUserStats(userService.getUserStats());
-
-        // Get partner statistics
-        dashboard.setPartnerStats(partnerService.getPartnerStats());
-
-        // Get conversion statistics
-        dashboard.setConversionStats(getConversionStats());
-
-        // Get recent transactions
-        dashboard.setRecentTransactions(getRecentTransactions(10));
-
-        // Get conversion trends (last 7 days)
-        dashboard.setConversionTrends(getConversionTrends(7));
-
-        // Get system health
-        dashboard.setSystemHealth(getSystemHealth());
+        List<String> degradedSections = new ArrayList<>();
+
+        Future<UserStatsResponse> userStats = dashboardExecutor.submit(userService::getUserStats);
+        Future<PartnerStatsResponse> partnerStats = dashboardExecutor.submit(partnerService::getPartnerStats);
+        Future<ConversionStatsResponse> conversionStats = dashboardExecutor.submit(self::getConversionStats);
+        Future<List<RecentTransactionResponse>> recentTransactions =
+                dashboardExecutor.submit(() -> getRecentTransactions(10));
+        Future<List<ConversionTrendResponse>> conversionTrends =
+                dashboardExecutor.submit(() -> self.getConversionTrends(7));
+        Future<SystemHealthResponse> systemHealth = dashboardExecutor.submit(this::getSystemHealth);
+
+        // All sections share one deadline measured from submission
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+
+        dashboard.setUserStats(awaitSection("userStats", userStats, deadline, degradedSections));
+        dashboard.setPartnerStats(awaitSection("partnerStats", partnerStats, deadline, degradedSections));
+        dashboard.setConversionStats(awaitSection("conversionStats", conversionStats, deadline, degradedSections));
+        dashboard.setRecentTransactions(
+                awaitSection("recentTransactions", recentTransactions, deadline, degradedSections));
+        dashboard.setConversionTrends(
+                awaitSection("conversionTrends", conversionTrends, deadline, degradedSections));
+        dashboard.setSystemHealth(awaitSection("systemHealth", systemHealth, deadline, degradedSections));
+
+        if (!degradedSections.isEmpty()) {
+            logger.warn("Dashboard overview returned partial data, degraded sections: {}", degradedSections);
+            dashboard.setDegradedSections(degradedSections);
+        }
 
         return dashboard;
     }
@@ -78,41 +116,75 @@ public class DashboardService {
     /**
      * Get conversion statistics
      */
+    @Cacheable(CacheNames.CONVERSION_STATS)
     public ConversionStatsResponse getConversionStats() {
+        return computeConversionStats();
+    }
+
+    /**
+     * Compute conversion statistics, bypassing the cache (used to refresh it)
+     *
+     * Concurrent callers share one in-flight computation.
+     */
+    public ConversionStatsResponse computeConversionStats() {
+        return singleFlight.execute("conversionStats", this::summarizeConversions);
+    }
+
+    private ConversionStatsResponse summarizeConversions() {
         logger.debug("Getting conversion statistics");
 
         ConversionStatsResponse stats = new ConversionStatsResponse();
 
-        stats.setTotalConversions(conversionLogRepository.count());
-        stats.setCompletedConversions(conversionLogRepository.countByStatus(ConversionStatus.COMPLETED));
-        stats.setPendingConversions(conversionLogRepository.countByStatus(ConversionStatus.PENDING));
-        stats.setFailedConversions(conversionLogRepository.countByStatus(ConversionStatus.FAILED));
-
-        // Calculate totals for completed conversions only
-        BigDecimal totalPoints = conversionLogRepository.sumPointsAmountByStatus(ConversionStatus.COMPLETED);
-        BigDecimal totalAmount = conversionLogRepository.sumConvertedAmountByStatus(ConversionStatus.COMPLETED);
+        LocalDateTime todayStart = LocalDate.now().atStartOfDay();
+        LocalDateTime weekStart = LocalDate.now().minusDays(7).atStartOfDay();
+        List<ConversionStatusSummary> summaries = conversionLogRepository.summarizeByStatus(todayStart, weekStart);
+
+        long total = 0;
+        long completed = 0;
+        long pending = 0;
+        long failed = 0;
+        long today = 0;
+        long weekly = 0;
+        BigDecimal totalPoints = BigDecimal.ZERO;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+
+        for (ConversionStatusSummary summary : summaries) {
+            total += summary.getCount();
+            today += summary.getTodayCount();
+            weekly += summary.getWeeklyCount();
+
+            switch (summary.getStatus()) {
+                case COMPLETED -> {
+                    completed = summary.getCount();
+                    // Totals are reported for completed conversions only
+                    totalPoints = summary.getTotalPoints();
+                    totalAmount = summary.getTotalAmount();
+                }
+                case PENDING -> pending = summary.getCount();
+                case FAILED -> failed = summary.getCount();
+                default -> { }
+            }
+        }
 
-        stats.setTotalPointsConverted(totalPoints != null ? totalPoints : BigDecimal.ZERO);
-        stats.setTotalAmountConverted(totalAmount != null ? totalAmount : BigDecimal.ZERO);
+        stats.setTotalConversions(total);
+        stats.setCompletedConversions(completed);
+        stats.setPendingConversions(pending);
+        stats.setFailedConversions(failed);
+        stats.setTotalPointsConverted(totalPoints);
+        stats.setTotalAmountConverted(totalAmount);
+        stats.setTodayConversions(today);
+        stats.setWeeklyConversions(weekly);
 
         // Calculate success rate
-        if (stats.getTotalConversions() > 0) {
-            BigDecimal successRate = BigDecimal.valueOf(stats.getCompletedConversions())
-                    .divide(BigDecimal.valueOf(stats.getTotalConversions()), 4, RoundingMode.HALF_UP)
+        if (total > 0) {
+            BigDecimal successRate = BigDecimal.valueOf(completed)
+                    .divide(BigDecimal.valueOf(total), 4, RoundingMode.HALF_UP)
                     .multiply(BigDecimal.valueOf(100));
             stats.setConversionSuccessRate(successRate);
         } else {
             stats.setConversionSuccessRate(BigDecimal.ZERO);
         }
 
-        // Get today's conversions
-        LocalDateTime todayStart = LocalDate.now().atStartOfDay();
-        stats.setTodayConversions(conversionLogRepository.countConversionsAfter(todayStart));
-
-        // Get weekly conversions
-        LocalDateTime weekStart = LocalDate.now().minusDays(7).atStartOfDay();
-        stats.setWeeklyConversions(conversionLogRepository.countConversionsAfter(weekStart));
-
         return stats;
     }
 
@@ -122,47 +194,21 @@ public class DashboardService {
     public List<RecentTransactionResponse> getRecentTransactions(int limit) {
         logger.debug("Getting recent transactions (limit: {})", limit);
 
-        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        return conversionLogRepository.findRecentConversions(pageable)
-                .getContent()
-                .stream()
-                .map(this::convertToRecentTransaction)
-                .toList();
+        return conversionLogRepository.findRecentTransactions(PageRequest.of(0, limit));
     }
 
     /**
      * Get conversion trends for specified number of days
+     *
+     * An empty result, which is also the fallback on errors, is not cached.
      */
+    @Cacheable(cacheNames = CacheNames.CONVERSION_TRENDS, unless = "#result.isEmpty()")
     public List<ConversionTrendResponse> getConversionTrends(int days) {
         logger.debug("Getting conversion trends for {} days", days);
 
         try {
-            LocalDateTime startDate = LocalDate.now().minusDays(days - 1).atStartOfDay();
-            List<Object[]> dailyStats = conversionLogRepository.getDailyConversionStats(startDate);
-
-            List<ConversionTrendResponse> trends = new ArrayList<>();
-
-            for (Object[] stat : dailyStats) {
-                // Handle the native query results properly
-                LocalDate date;
-                if (stat[0] instanceof java.sql.Date) {
-                    date = ((java.sql.Date) stat[0]).toLocalDate();
-                } else if (stat[0] instanceof String) {
-                    date = LocalDate.parse((String) stat[0]);
-                } else {
-                    continue; // Skip invalid entries
-                }
-
-                Long count = ((Number) stat[1]).longValue();
-                BigDecimal totalPoints = stat[2] != null ? new BigDecimal(stat[2].toString()) : BigDecimal.ZERO;
-                BigDecimal totalAmount = stat[3] != null ? new BigDecimal(stat[3].toString()) : BigDecimal.ZERO;
-
-                trends.add(new ConversionTrendResponse(date, count, totalPoints, totalAmount));
-            }
-
-            return trends;
-
+            LocalDate startDate = LocalDate.now().minusDays(days - 1);
+            return rollupRepository.findDailyTrends(startDate);
         } catch (Exception e) {
             logger.error("Error getting conversion trends: {}", e.getMessage(), e);
             // Return empty list for now - this allows the dashboard to still load
@@ -175,61 +221,26 @@ public class DashboardService {
      */
     public SystemHealthResponse getSystemHealth() {
         logger.debug("Getting system health status");
-
-        SystemHealthResponse health = new SystemHealthResponse();
-
-        try {
-            // Check database connectivity
-            long userCount = userRepository.count();
-            health.setDatabaseStatus("Connected");
-            health.setStatus("Healthy");
-
-            // System metrics
-            health.setActiveUsers(userRepository.countByStatus(UserStatus.ACTIVE));
-            health.setActiveSessions(1L); // Mock value - would be from session store
-
-            // Memory usage
-            Runtime runtime = Runtime.getRuntime();
-            long totalMemory = runtime.totalMemory();
-            long freeMemory = runtime.freeMemory();
-            long usedMemory = totalMemory - freeMemory;
-            double usagePercent = (double) usedMemory / totalMemory * 100;
-
-            health.setMemoryUsage(String.format("%.1f%% (%d MB / %d MB)",
-                    usagePercent, usedMemory / 1024 / 1024, totalMemory / 1024 / 1024));
-
-            // Uptime (mock - would be from application start time)
-            health.setUptime(LocalDateTime.now().minusHours(2));
-
-        } catch (Exception e) {
-            logger.error("Error getting system health: {}", e.getMessage());
-            health.setStatus("Degraded");
-            health.setDatabaseStatus("Error: " + e.getMessage());
-        }
-
-        return health;
+        return systemHealthService.getSystemHealth();
     }
 
     /**
-     * Convert ConversionLog to RecentTransactionResponse
+     * Wait for a dashboard section until the shared deadline, returning null if it fails or times out
      */
-    private RecentTransactionResponse convertToRecentTransaction(ConversionLog log) {
-        RecentTransactionResponse transaction = new RecentTransactionResponse();
-        transaction.setId(log.getId());
-        transaction.setType(log.getTransactionType().name());
-        transaction.setPointsAmount(log.getPointsAmount());
-        transaction.setConvertedAmount(log.getConvertedAmount());
-        transaction.setStatus(log.getStatus().name());
-        transaction.setTimestamp(log.getCreatedAt());
-
-        // Get user name
-        userRepository.findById(log.getUserId())
-                .ifPresent(user -> transaction.setUserName(user.getName()));
-
-        // Get partner name
-        partnerRepository.findById(log.getPartnerId())
-                .ifPresent(partner -> transaction.setPartnerName(partner.getName()));
-
-        return transaction;
+    private <T> T awaitSection(String section, Future<T> future, long deadlineNanos, List<String> degradedSections) {
+        try {
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Dashboard section {} exceeded {} ms deadline", section, sectionTimeoutMs);
+            future.cancel(true);
+        } catch (ExecutionException e) {
+            logger.error("Dashboard section {} failed: {}", section, e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        degradedSections.add(section);
+        return null;
     }
 }
\ No newline at end of file
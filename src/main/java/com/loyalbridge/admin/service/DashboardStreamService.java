@@ -0,0 +1,190 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.dto.DashboardEvent;
+import com.loyalbridge.admin.repository.ConversionLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Service for the live dashboard event stream (Server-Sent Events)
+ *
+ * Deltas are computed once and fanned out to every subscriber. Each subscriber
+ * has a bounded buffer drained by its own sender; a subscriber whose buffer
+ * overflows is treated as a slow consumer and disconnected.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Service
+public class DashboardStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStreamService.class);
+
+    private final DashboardService dashboardService;
+    private final ConversionLogRepository conversionLogRepository;
+    private final ExecutorService dashboardExecutor;
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    @Value("${loyalbridge.dashboard.stream.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${loyalbridge.dashboard.stream.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    public DashboardStreamService(DashboardService dashboardService,
+                                  ConversionLogRepository conversionLogRepository,
+                                  @Qualifier("dashboardExecutor") ExecutorService dashboardExecutor) {
+        this.dashboardService = dashboardService;
+        this.conversionLogRepository = conversionLogRepository;
+        this.dashboardExecutor = dashboardExecutor;
+    }
+
+    /**
+     * Register a new stream subscriber and send it the current counters
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> disconnect(subscriber));
+        emitter.onError(e -> disconnect(subscriber));
+
+        subscribers.add(subscriber);
+        logger.debug("Dashboard stream subscriber added ({} active)", subscribers.size());
+
+        enqueue(subscriber, new DashboardEvent(DashboardEvent.COUNTERS, dashboardService.getConversionStats()));
+        return emitter;
+    }
+
+    /**
+     * Number of currently connected subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Push a conversion delta once a conversion write has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConversionChanged(ConversionLogChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        conversionLogRepository.findTransactionById(event.getConversionId()).ifPresent(transaction -> {
+            DashboardEvent delta;
+            if (event.isCreated()) {
+                delta = new DashboardEvent(DashboardEvent.CONVERSION_CREATED, transaction);
+            } else {
+                delta = new DashboardEvent(DashboardEvent.CONVERSION_STATUS_CHANGED, transaction);
+                delta.setPreviousStatus(event.getPreviousStatus().name());
+            }
+            publish(delta);
+        });
+    }
+
+    /**
+     * Recompute counters once per interval and fan them out to all subscribers
+     *
+     * Reads past the stats cache so counters include writes made on other nodes;
+     * the interval itself bounds the query rate.
+     */
+    @Scheduled(fixedDelayString = "${loyalbridge.dashboard.stream.counter-interval-ms:5000}")
+    public void publishCounters() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        try {
+            publish(new DashboardEvent(DashboardEvent.COUNTERS, dashboardService.computeConversionStats()));
+        } catch (Exception e) {
+            logger.error("Failed to compute dashboard counters: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Fan an event out to every subscriber's buffer
+     */
+    public void publish(DashboardEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, event);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, DashboardEvent event) {
+        if (!subscriber.buffer.offer(event)) {
+            logger.warn("Dashboard stream subscriber buffer full ({} events), dropping slow consumer", bufferSize);
+            disconnect(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dashboardExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Send buffered events to one subscriber; only one drain runs per subscriber at a time
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            DashboardEvent event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name(event.getType())
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+        } catch (Exception e) {
+            logger.debug("Dashboard stream send failed: {}", e.getMessage());
+            disconnect(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // An event may have been enqueued between the last poll and releasing the flag
+        if (!subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.buffer.clear();
+            subscriber.emitter.complete();
+            logger.debug("Dashboard stream subscriber removed ({} active)", subscribers.size());
+        }
+    }
+
+    /**
+     * Connected client with its bounded event buffer
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<DashboardEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<DashboardEvent> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
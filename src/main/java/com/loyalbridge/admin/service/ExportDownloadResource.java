@@ -0,0 +1,59 @@
+package com.loyalbridge.admin.service;
+
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Spooled export file that holds a download reference on its job while a stream is open
+ *
+ * Spring MVC opens one stream per response (or per range), so the reference
+ * is taken when the stream is opened and dropped when it is closed.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class ExportDownloadResource extends FileSystemResource {
+
+    private final ExportJob job;
+
+    public ExportDownloadResource(ExportJob job) {
+        super(job.getFile());
+        this.job = job;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        if (!job.acquireDownload()) {
+            throw new FileNotFoundException("Export job " + job.getId() + " has expired");
+        }
+
+        InputStream in;
+        try {
+            in = super.getInputStream();
+        } catch (IOException | RuntimeException e) {
+            job.releaseDownload();
+            throw e;
+        }
+
+        return new FilterInputStream(in) {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    super.close();
+                } finally {
+                    job.releaseDownload();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.dto.ExportJobResponse;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * In-memory state of one asynchronous export job
+ *
+ * Written by the export worker and read by status polls, so mutable state is volatile.
+ * Open downloads are counted so the retention purge never deletes a file being read.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class ExportJob implements ExportProgress {
+
+    public enum Type { USERS, CONVERSIONS }
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final Type type;
+    private final boolean gzip;
+    private final long maxRecords;
+    private final String requestedBy;
+    private final Path file;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long rowsWritten;
+    private volatile boolean truncated;
+    private volatile String errorMessage;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+
+    // Guarded by this
+    private int openDownloads;
+    private boolean purged;
+
+    public ExportJob(String id, Type type, boolean gzip, long maxRecords, String requestedBy, Path file) {
+        this.id = id;
+        this.type = type;
+        this.gzip = gzip;
+        this.maxRecords = maxRecords;
+        this.requestedBy = requestedBy;
+        this.file = file;
+    }
+
+    @Override
+    public void rowsWritten(long rows) {
+        this.rowsWritten = rows;
+    }
+
+    @Override
+    public void truncated() {
+        this.truncated = true;
+    }
+
+    public void markRunning() {
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void markCompleted() {
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void markFailed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    /**
+     * Register a download reading the spooled file
+     *
+     * @return false once the job has been purged and its file is gone
+     */
+    public synchronized boolean acquireDownload() {
+        if (purged) {
+            return false;
+        }
+        openDownloads++;
+        return true;
+    }
+
+    public synchronized void releaseDownload() {
+        openDownloads--;
+    }
+
+    /**
+     * Mark the job purged unless a download is still reading its file
+     */
+    public synchronized boolean markPurged() {
+        if (openDownloads > 0) {
+            return false;
+        }
+        purged = true;
+        return true;
+    }
+
+    /**
+     * Name offered to the client when downloading the spooled file
+     */
+    public String getFileName() {
+        return "loyalbridge_" + type.name().toLowerCase() + "_export_" + id + (gzip ? ".csv.gz" : ".csv");
+    }
+
+    public ExportJobResponse toResponse() {
+        ExportJobResponse response = new ExportJobResponse();
+        response.setJobId(id);
+        response.setType(type.name());
+        response.setStatus(status.name());
+        response.setRowsWritten(rowsWritten);
+        response.setMaxRecords(maxRecords);
+        response.setTruncated(truncated);
+        response.setGzip(gzip);
+        response.setErrorMessage(errorMessage);
+        response.setCreatedAt(createdAt);
+        response.setStartedAt(startedAt);
+        response.setCompletedAt(completedAt);
+        if (status == Status.COMPLETED) {
+            response.setFileName(getFileName());
+            response.setFileSize(file.toFile().length());
+            response.setDownloadUrl("/api/exports/" + id + "/download");
+        }
+        return response;
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public Type getType() { return type; }
+    public boolean isGzip() { return gzip; }
+    public long getMaxRecords() { return maxRecords; }
+    public String getRequestedBy() { return requestedBy; }
+    public Path getFile() { return file; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public Status getStatus() { return status; }
+    public long getRowsWritten() { return rowsWritten; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+}
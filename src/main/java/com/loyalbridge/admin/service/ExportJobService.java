@@ -0,0 +1,238 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.dto.ConversionSearchCriteria;
+import com.loyalbridge.admin.dto.ExportJobRequest;
+import com.loyalbridge.admin.dto.ExportJobResponse;
+import com.loyalbridge.admin.dto.UserSearchCriteria;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Service for asynchronous export jobs
+ *
+ * Jobs run on a bounded executor and spool their CSV output to a local file,
+ * which is downloaded once the job completes. Job state is held in memory and
+ * spooled files are removed after the configured retention period, unless a
+ * download is still reading them. Files left behind by a previous run have no
+ * job any more and are removed at startup.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Service
+public class ExportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportJobService.class);
+
+    private final UserService userService;
+    private final ConversionLogService conversionLogService;
+    private final ExecutorService exportExecutor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${loyalbridge.export.max-records:10000}")
+    private long maxRecords;
+
+    @Value("${loyalbridge.export.spool-dir:./data/exports}")
+    private String spoolDir;
+
+    @Value("${loyalbridge.export.retention-minutes:60}")
+    private long retentionMinutes;
+
+    public ExportJobService(UserService userService,
+                            ConversionLogService conversionLogService,
+                            @Qualifier("exportExecutor") ExecutorService exportExecutor) {
+        this.userService = userService;
+        this.conversionLogService = conversionLogService;
+        this.exportExecutor = exportExecutor;
+    }
+
+    /**
+     * Delete spooled files from a previous run; their jobs were held in memory and are gone
+     */
+    @PostConstruct
+    public void deleteOrphanedFiles() {
+        Path directory = Paths.get(spoolDir);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{csv,csv.gz,part}")) {
+            for (Path file : files) {
+                deleteQuietly(file);
+                deleted++;
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to list export spool directory {}: {}", directory, e.getMessage());
+        }
+
+        if (deleted > 0) {
+            logger.info("Deleted {} orphaned export files from {}", deleted, directory);
+        }
+    }
+
+    /**
+     * Queue a new export job for the current admin
+     *
+     * @throws RejectedExecutionException when the export queue is full
+     */
+    public ExportJobResponse submitJob(ExportJobRequest request) throws IOException {
+        ExportJob.Type type = ExportJob.Type.valueOf(request.getType().toUpperCase());
+        boolean gzip = Boolean.TRUE.equals(request.getGzip());
+
+        Path directory = Paths.get(spoolDir);
+        Files.createDirectories(directory);
+
+        String jobId = UUID.randomUUID().toString();
+        Path file = directory.resolve(jobId + (gzip ? ".csv.gz" : ".csv"));
+        ExportJob job = new ExportJob(jobId, type, gzip, maxRecords, currentAdminEmail(), file);
+
+        jobs.put(jobId, job);
+        try {
+            exportExecutor.execute(() -> runJob(job, request));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            throw e;
+        }
+
+        logger.info("Export job {} ({}) queued by {}", jobId, type, job.getRequestedBy());
+        return job.toResponse();
+    }
+
+    /**
+     * Get the status of an export job owned by the current admin
+     */
+    public ExportJobResponse getJob(String jobId) {
+        return findOwnedJob(jobId).toResponse();
+    }
+
+    /**
+     * Get a completed export job owned by the current admin for download
+     */
+    public ExportJob getCompletedJob(String jobId) {
+        ExportJob job = findOwnedJob(jobId);
+        if (job.getStatus() != ExportJob.Status.COMPLETED) {
+            throw new RuntimeException("Export job " + jobId + " is not ready for download (status " +
+                                       job.getStatus() + ")");
+        }
+        return job;
+    }
+
+    /**
+     * Open the spooled file of a completed job; the job is kept until the download is closed
+     */
+    public Resource openDownload(ExportJob job) {
+        return new ExportDownloadResource(job);
+    }
+
+    /**
+     * Remove finished jobs and their spooled files once the retention period has passed
+     *
+     * Jobs with an open download are skipped and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${loyalbridge.export.cleanup-interval-ms:600000}")
+    public void purgeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+
+        jobs.values().removeIf(job -> {
+            if (job.getCompletedAt() == null || job.getCompletedAt().isAfter(cutoff)) {
+                return false;
+            }
+            if (!job.markPurged()) {
+                logger.debug("Export job {} is being downloaded, purging later", job.getId());
+                return false;
+            }
+            deleteQuietly(job.getFile());
+            logger.debug("Purged expired export job {}", job.getId());
+            return true;
+        });
+    }
+
+    /**
+     * Generate the export into a temporary file and move it into place when complete
+     */
+    private void runJob(ExportJob job, ExportJobRequest request) {
+        job.markRunning();
+        Path partFile = job.getFile().resolveSibling(job.getFile().getFileName() + ".part");
+
+        try {
+            try (OutputStream fileOut = Files.newOutputStream(partFile);
+                 OutputStream out = job.isGzip() ? new GZIPOutputStream(fileOut, 64 * 1024) : fileOut) {
+
+                switch (job.getType()) {
+                    case USERS -> userService.writeUsersCsv(toUserCriteria(request), out,
+                                                           job.getMaxRecords(), job);
+                    case CONVERSIONS -> conversionLogService.writeConversionsCsv(toConversionCriteria(request), out,
+                                                                                 job.getMaxRecords(), job);
+                }
+            }
+
+            Files.move(partFile, job.getFile(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.markCompleted();
+            logger.info("Export job {} completed: {} rows written to {}", job.getId(),
+                       job.getRowsWritten(), job.getFile());
+
+        } catch (Exception e) {
+            logger.error("Export job {} failed: {}", job.getId(), e.getMessage());
+            deleteQuietly(partFile);
+            job.markFailed(e.getMessage());
+        }
+    }
+
+    private ExportJob findOwnedJob(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || !job.getRequestedBy().equals(currentAdminEmail())) {
+            throw new RuntimeException("Export job not found with ID: " + jobId);
+        }
+        return job;
+    }
+
+    private String currentAdminEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "system";
+    }
+
+    private UserSearchCriteria toUserCriteria(ExportJobRequest request) {
+        UserSearchCriteria criteria = new UserSearchCriteria(request.getName(), request.getPhone(),
+                                                             request.getStatus(), request.getIsHighRisk(),
+                                                             request.getIsVerified());
+        criteria.setEmail(request.getEmail());
+        return criteria;
+    }
+
+    private ConversionSearchCriteria toConversionCriteria(ExportJobRequest request) {
+        return new ConversionSearchCriteria(request.getUserId(), request.getPartnerId(), request.getStatus(),
+                                            request.getTransactionType(), request.getStartDate(), request.getEndDate());
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete export file {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.loyalbridge.admin.service;
+
+/**
+ * Callback for reporting progress while an export is being written
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public interface ExportProgress {
+
+    /** Progress sink that discards all updates */
+    ExportProgress NONE = new ExportProgress() {
+        @Override
+        public void rowsWritten(long rows) {
+        }
+
+        @Override
+        public void truncated() {
+        }
+    };
+
+    /**
+     * Total number of rows written so far
+     */
+    void rowsWritten(long rows);
+
+    /**
+     * Called when the row limit was reached while more matching rows remained
+     */
+    void truncated();
+}
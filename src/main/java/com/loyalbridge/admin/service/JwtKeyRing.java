@@ -0,0 +1,289 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.model.JwtSigningKey;
+import com.loyalbridge.admin.repository.JwtSigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Ring of asymmetric token signing keys with scheduled rotation
+ *
+ * The newest key of the configured algorithm signs tokens and is named in
+ * their kid header. Keys live in the jwt_signing_keys table so all nodes
+ * share the ring; each node keeps the decoded public keys by kid and reloads
+ * the table on a schedule, or early when a token names a kid it has not seen.
+ * A replaced key is kept until every token it signed has expired, so rotating
+ * never logs anyone out. Verifiers only need the public keys ({@link #publicJwks()}).
+ * Private keys are stored sealed by {@link SigningKeyCipher}; rows written in
+ * plain form before that are sealed on the next refresh while the ring signs.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Component
+public class JwtKeyRing {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    // Bounds table reloads triggered by tokens carrying an unknown kid
+    private static final long UNKNOWN_KID_RELOAD_GAP_MS = 1000;
+
+    /**
+     * Token signing algorithm; HS256 keeps the shared jwt.secret and bypasses the ring
+     */
+    public enum Algorithm {
+        HS256(null, null, null),
+        ES256(Jwts.SIG.ES256, "EC", () -> Jwts.SIG.ES256.keyPair().build()),
+        EdDSA(Jwts.SIG.EdDSA, "Ed25519", () -> Jwks.CRV.Ed25519.keyPair().build());
+
+        private final SignatureAlgorithm signatureAlgorithm;
+        private final String keyFactoryAlgorithm;
+        private final Supplier<KeyPair> keyPairGenerator;
+
+        Algorithm(SignatureAlgorithm signatureAlgorithm, String keyFactoryAlgorithm, Supplier<KeyPair> keyPairGenerator) {
+            this.signatureAlgorithm = signatureAlgorithm;
+            this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+            this.keyPairGenerator = keyPairGenerator;
+        }
+    }
+
+    /**
+     * Private key that signs new tokens, named by its kid
+     */
+    public record SigningKey(String kid, PrivateKey privateKey, SignatureAlgorithm algorithm) {}
+
+    private record VerificationKey(Algorithm algorithm, PublicKey publicKey) {}
+
+    private record Ring(SigningKey active, LocalDateTime activeCreatedAt, Map<String, VerificationKey> keys) {}
+
+    private final JwtSigningKeyRepository jwtSigningKeyRepository;
+    private final SigningKeyCipher signingKeyCipher;
+    private volatile Ring ring = new Ring(null, null, Map.of());
+    private volatile long lastReloadMillis;
+
+    @Value("${loyalbridge.security.jwt.algorithm:ES256}")
+    private Algorithm algorithm;
+
+    @Value("${loyalbridge.security.jwt.rotation-interval-ms:86400000}")
+    private long rotationIntervalMs;
+
+    @Value("${loyalbridge.security.jwt.key-refresh-ms:60000}")
+    private long keyRefreshMs;
+
+    @Value("${jwt.expiration}")
+    private long jwtExpiration;
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpiration;
+
+    public JwtKeyRing(JwtSigningKeyRepository jwtSigningKeyRepository, SigningKeyCipher signingKeyCipher,
+                      MeterRegistry meterRegistry) {
+        this.jwtSigningKeyRepository = jwtSigningKeyRepository;
+        this.signingKeyCipher = signingKeyCipher;
+        Gauge.builder("loyalbridge.auth.jwt.keys", this, keyRing -> keyRing.ring.keys().size())
+            .description("Token verification keys in the key ring")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        refresh();
+    }
+
+    /**
+     * Reload the ring, drop keys whose tokens have all expired, and rotate when due
+     */
+    @Scheduled(fixedDelayString = "${loyalbridge.security.jwt.key-refresh-ms:60000}",
+               initialDelayString = "${loyalbridge.security.jwt.key-refresh-ms:60000}")
+    public synchronized void refresh() {
+        List<JwtSigningKey> rows = purgeRetired(jwtSigningKeyRepository.findAllByOrderByCreatedAtDesc());
+        if (isAsymmetric()) {
+            sealPlainKeys(rows);
+        }
+        load(rows);
+
+        if (isAsymmetric() && (ring.active() == null
+                || !ring.activeCreatedAt().plusNanos(rotationIntervalMs * 1_000_000).isAfter(LocalDateTime.now()))) {
+            rotate();
+            load(jwtSigningKeyRepository.findAllByOrderByCreatedAtDesc());
+        }
+    }
+
+    /**
+     * Whether tokens are signed by the ring rather than the shared HS256 secret
+     */
+    public boolean isAsymmetric() {
+        return algorithm != Algorithm.HS256;
+    }
+
+    /**
+     * Key to sign new tokens with, or null when signing with the shared HS256 secret
+     */
+    public SigningKey signingKey() {
+        return ring.active();
+    }
+
+    /**
+     * Public key for a token's kid, checked against the algorithm in its header
+     *
+     * @throws UnsupportedJwtException if the kid is unknown or the algorithm does not match its key
+     */
+    public PublicKey verificationKey(String kid, String headerAlgorithm) {
+        VerificationKey key = ring.keys().get(kid);
+        if (key == null) {
+            reloadForUnknownKid(kid);
+            key = ring.keys().get(kid);
+        }
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown signing key: " + kid);
+        }
+        if (!key.algorithm().name().equals(headerAlgorithm)) {
+            throw new UnsupportedJwtException("Token algorithm does not match signing key " + kid);
+        }
+        return key.publicKey();
+    }
+
+    /**
+     * Whether the kid is still in the ring as currently loaded, without reloading for an unknown kid
+     */
+    public boolean contains(String kid) {
+        return ring.keys().containsKey(kid);
+    }
+
+    /**
+     * Public keys of the ring as JWKs, newest first
+     */
+    public List<Map<String, Object>> publicJwks() {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        ring.keys().forEach((kid, key) -> jwks.add(new LinkedHashMap<>(Jwks.builder()
+            .key(key.publicKey())
+            .id(kid)
+            .algorithm(key.algorithm().name())
+            .publicKeyUse("sig")
+            .build())));
+        return jwks;
+    }
+
+    private synchronized void reloadForUnknownKid(String kid) {
+        if (ring.keys().containsKey(kid) || System.currentTimeMillis() - lastReloadMillis < UNKNOWN_KID_RELOAD_GAP_MS) {
+            return;
+        }
+        load(jwtSigningKeyRepository.findAllByOrderByCreatedAtDesc());
+    }
+
+    private void rotate() {
+        KeyPair keyPair = algorithm.keyPairGenerator.get();
+        String kid = UUID.randomUUID().toString();
+        JwtSigningKey key;
+        try {
+            key = new JwtSigningKey(kid, algorithm.name(),
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()),
+                signingKeyCipher.encrypt(kid, keyPair.getPrivate().getEncoded()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encrypt new token signing key", e);
+        }
+        jwtSigningKeyRepository.save(key);
+        logger.info("Rotated token signing key: {} now signs with {}", key.getKid(), algorithm);
+    }
+
+    /**
+     * Seal private keys still stored as plain PKCS#8 by an earlier version
+     */
+    private void sealPlainKeys(List<JwtSigningKey> rows) {
+        List<JwtSigningKey> sealed = new ArrayList<>();
+        for (JwtSigningKey row : rows) {
+            if (signingKeyCipher.isEncrypted(row.getPrivateKey())) {
+                continue;
+            }
+            try {
+                row.setPrivateKey(signingKeyCipher.encrypt(row.getKid(), Base64.getDecoder().decode(row.getPrivateKey())));
+                sealed.add(row);
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                logger.error("Failed to encrypt stored token signing key {}: {}", row.getKid(), e.getMessage());
+            }
+        }
+        if (!sealed.isEmpty()) {
+            jwtSigningKeyRepository.saveAll(sealed);
+            logger.info("Encrypted {} token signing keys stored in plain form", sealed.size());
+        }
+    }
+
+    /**
+     * Delete keys replaced longer ago than any token they signed can live, plus one refresh
+     * interval for nodes that had not yet picked up the replacement
+     */
+    private List<JwtSigningKey> purgeRetired(List<JwtSigningKey> rows) {
+        LocalDateTime cutoff = LocalDateTime.now()
+            .minusNanos((Math.max(jwtExpiration, refreshExpiration) + keyRefreshMs) * 1_000_000);
+
+        for (int i = 1; i < rows.size(); i++) {
+            if (rows.get(i - 1).getCreatedAt().isBefore(cutoff)) {
+                List<JwtSigningKey> retired = rows.subList(i, rows.size());
+                jwtSigningKeyRepository.deleteAll(retired);
+                logger.info("Removed {} retired token signing keys", retired.size());
+                return new ArrayList<>(rows.subList(0, i));
+            }
+        }
+        return rows;
+    }
+
+    private void load(List<JwtSigningKey> rows) {
+        Ring current = ring;
+        Map<String, VerificationKey> keys = new LinkedHashMap<>();
+        SigningKey active = null;
+        LocalDateTime activeCreatedAt = null;
+
+        for (JwtSigningKey row : rows) {
+            try {
+                Algorithm rowAlgorithm = Algorithm.valueOf(row.getAlgorithm());
+                VerificationKey key = current.keys().get(row.getKid());
+                if (key == null) {
+                    key = new VerificationKey(rowAlgorithm, KeyFactory.getInstance(rowAlgorithm.keyFactoryAlgorithm)
+                        .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(row.getPublicKey()))));
+                }
+                keys.put(row.getKid(), key);
+
+                if (active == null && rowAlgorithm == algorithm) {
+                    active = current.active() != null && current.active().kid().equals(row.getKid())
+                        ? current.active()
+                        : new SigningKey(row.getKid(), KeyFactory.getInstance(rowAlgorithm.keyFactoryAlgorithm)
+                            .generatePrivate(new PKCS8EncodedKeySpec(signingKeyCipher.decrypt(row.getKid(), row.getPrivateKey()))),
+                            rowAlgorithm.signatureAlgorithm);
+                    activeCreatedAt = row.getCreatedAt();
+                }
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                logger.error("Skipping unreadable token signing key {}: {}", row.getKid(), e.getMessage());
+            }
+        }
+
+        ring = new Ring(active, activeCreatedAt, Collections.unmodifiableMap(keys));
+        lastReloadMillis = System.currentTimeMillis();
+    }
+}
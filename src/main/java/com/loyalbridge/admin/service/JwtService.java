@@ -2,6 +2,7 @@ package com.loyalbridge.admin.service;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,15 +10,26 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
  * JWT Service for token generation, validation, and parsing
  * 
- * Handles access tokens, refresh tokens, and claims extraction
+ * Handles access tokens, refresh tokens, and claims extraction. Tokens are
+ * signed with the key ring's active key (kid header) or, in HS256 mode, the
+ * shared secret; tokens without a kid are accepted while legacy HMAC is enabled.
  * 
  * @author LoyalBridge Development Team
  * @version 1.0.0
@@ -36,6 +48,137 @@ public class JwtService {
     @Value("${jwt.refresh-expiration}")
     private long refreshExpiration;
 
+    // Disable once HS256 tokens issued before switching algorithms have expired
+    @Value("${loyalbridge.security.jwt.legacy-hmac:true}")
+    private boolean legacyHmac;
+
+    // Upper bound on access tokens remembered as already verified
+    @Value("${loyalbridge.security.jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
+    private final JwtKeyRing keyRing;
+
+    // Asymmetric signature checks cost ~100x an HMAC, so each token is verified once per node.
+    // A hit is only trusted while the token's signing key is still in the ring
+    private final Map<String, AdminPrincipal> verifiedTokens = new ConcurrentHashMap<>();
+
+    // Built once: both are immutable and thread-safe
+    private SecretKey signInKey;
+    private JwtParser parser;
+
+    public JwtService(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    @PostConstruct
+    void init() {
+        this.signInKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return verificationKey(header);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Key named by the token's kid, or the shared secret for tokens without one
+     */
+    private Key verificationKey(JwsHeader header) {
+        if (header.getKeyId() != null) {
+            return keyRing.verificationKey(header.getKeyId(), header.getAlgorithm());
+        }
+        if (keyRing.isAsymmetric() && !legacyHmac) {
+            throw new UnsupportedJwtException("Token has no key id");
+        }
+        return signInKey;
+    }
+
+    /**
+     * Verify an access token once and build the authenticated principal from its claims
+     *
+     * @throws JwtException if the token is invalid, expired, or lacks the admin claims
+     */
+    public AdminPrincipal parseAccessToken(String token) {
+        AdminPrincipal verified = verifiedTokens.get(token);
+        if (verified != null) {
+            if (!verified.getExpiresAt().isAfter(Instant.now())) {
+                verifiedTokens.remove(token);
+                throw new ExpiredJwtException(null, null, "JWT expired at " + verified.getExpiresAt());
+            }
+            if (!isSigningKeyTrusted(verified)) {
+                verifiedTokens.remove(token);
+                throw new UnsupportedJwtException("Signing key no longer trusted: " + verified.getKeyId());
+            }
+            return verified;
+        }
+
+        Jws<Claims> jws = parseSignedClaims(token);
+        Claims claims = jws.getPayload();
+
+        String email = claims.getSubject();
+        String role = claims.get("role", String.class);
+        Long adminId = claims.get("adminId", Long.class);
+        if (email == null || role == null || adminId == null) {
+            throw new MalformedJwtException("Token is not an access token");
+        }
+        Long version = claims.get("ver", Long.class);
+
+        AdminPrincipal principal = new AdminPrincipal(adminId, email, role, version != null ? version : 0L,
+                                                      tokenId(claims, token), jws.getHeader().getKeyId(),
+                                                      claims.getExpiration().toInstant());
+        rememberVerified(token, principal);
+        return principal;
+    }
+
+    /**
+     * Cache a verified token; when full, expired entries are dropped and, failing that, the token is not cached
+     */
+    private void rememberVerified(String token, AdminPrincipal principal) {
+        if (verifiedTokens.size() >= verifiedCacheSize) {
+            Instant now = Instant.now();
+            verifiedTokens.values().removeIf(cached -> !cached.getExpiresAt().isAfter(now));
+            if (verifiedTokens.size() >= verifiedCacheSize) {
+                return;
+            }
+        }
+        verifiedTokens.put(token, principal);
+    }
+
+    /**
+     * Principals of unexpired access tokens verified on this node
+     */
+    public List<AdminPrincipal> verifiedPrincipals() {
+        Instant now = Instant.now();
+        return verifiedTokens.values().stream()
+                .filter(principal -> principal.getExpiresAt().isAfter(now) && isSigningKeyTrusted(principal))
+                .toList();
+    }
+
+    /**
+     * Whether the key that signed a cached token is still in the ring; tokens without a kid use the shared secret
+     */
+    private boolean isSigningKeyTrusted(AdminPrincipal principal) {
+        return principal.getKeyId() == null || keyRing.contains(principal.getKeyId());
+    }
+
+    /**
+     * Identifier used to revoke a token: its jti claim, or a hash of the token if it has none
+     */
+    public static String tokenId(Claims claims, String token) {
+        if (claims.getId() != null) {
+            return claims.getId();
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     /**
      * Extract username from JWT token
      */
@@ -76,7 +219,14 @@ public class JwtService {
      * Generate refresh token
      */
     public String generateRefreshToken(UserDetails userDetails) {
-        return buildToken(new HashMap<>(), userDetails, refreshExpiration);
+        return generateRefreshToken(new HashMap<>(), userDetails);
+    }
+
+    /**
+     * Generate refresh token with extra claims
+     */
+    public String generateRefreshToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        return buildToken(extraClaims, userDetails, refreshExpiration);
     }
 
     /**
@@ -87,12 +237,19 @@ public class JwtService {
         Date issuedAt = new Date(currentTimeMillis);
         Date expirationDate = new Date(currentTimeMillis + expiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .claims(extraClaims)
                 .subject(userDetails.getUsername())
                 .issuedAt(issuedAt)
-                .expiration(expirationDate)
-                .signWith(getSignInKey(), Jwts.SIG.HS256)
+                .expiration(expirationDate);
+
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        if (signingKey == null) {
+            return builder.signWith(signInKey, Jwts.SIG.HS256).compact();
+        }
+        return builder.header().keyId(signingKey.kid()).and()
+                .signWith(signingKey.privateKey(), signingKey.algorithm())
                 .compact();
     }
 
@@ -101,8 +258,9 @@ public class JwtService {
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+            final Claims claims = extractAllClaims(token);
+            return claims.getSubject().equals(userDetails.getUsername())
+                    && !claims.getExpiration().before(new Date());
         } catch (Exception e) {
             logger.warn("Token validation failed: {}", e.getMessage());
             return false;
@@ -110,27 +268,18 @@ public class JwtService {
     }
 
     /**
-     * Check if token is expired
+     * Extract all claims from JWT token
      */
-    private boolean isTokenExpired(String token) {
-        try {
-            return extractExpiration(token).before(new Date());
-        } catch (Exception e) {
-            logger.warn("Error checking token expiration: {}", e.getMessage());
-            return true;
-        }
+    private Claims extractAllClaims(String token) {
+        return parseSignedClaims(token).getPayload();
     }
 
     /**
-     * Extract all claims from JWT token
+     * Verify a token's signature and return its header and claims
      */
-    private Claims extractAllClaims(String token) {
+    private Jws<Claims> parseSignedClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSignInKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token);
         } catch (ExpiredJwtException e) {
             logger.warn("JWT token is expired: {}", e.getMessage());
             throw e;
@@ -149,14 +298,6 @@ public class JwtService {
         }
     }
 
-    /**
-     * Get signing key for JWT
-     */
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = secretKey.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     /**
      * Get token expiration time in milliseconds
      */
@@ -0,0 +1,116 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.dto.CursorPage;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Encodes and decodes opaque "after" cursors for keyset pagination
+ *
+ * A cursor carries the sort field, direction, and the (sortKey, id) pair of the
+ * last row of a slice. The next slice is fetched with a seek predicate on that
+ * pair instead of an OFFSET, so deep pages cost the same as the first one.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public final class KeysetCursor {
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = "\u001F";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Limit a requested page size to between one and the configured maximum
+     */
+    public static int clampPageSize(int size, int maxPageSize) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    /**
+     * Sort on the requested key with id as tie-breaker
+     *
+     * @param sortKeys sortable properties mapped to a parser for their cursor value
+     */
+    public static Sort sort(String sortBy, Sort.Direction direction, Map<String, Function<String, ?>> sortKeys) {
+        if (!sortKeys.containsKey(sortBy)) {
+            throw new IllegalArgumentException("Unsupported sort field for cursor paging: " + sortBy +
+                                               " (supported: " + sortKeys.keySet() + ")");
+        }
+        return ID.equals(sortBy)
+            ? Sort.by(direction, ID)
+            : Sort.by(direction, sortBy).and(Sort.by(direction, ID));
+    }
+
+    /**
+     * Decode an "after" cursor into a scroll position; a blank cursor starts at the beginning
+     */
+    public static KeysetScrollPosition decode(String after, String sortBy, Sort.Direction direction,
+                                              Map<String, Function<String, ?>> sortKeys) {
+        if (after == null || after.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length < 3 || !parts[0].equals(sortBy) || !parts[1].equals(direction.name())) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            if (!ID.equals(sortBy)) {
+                keys.put(sortBy, sortKeys.get(sortBy).apply(parts.length > 3 ? parts[3] : ""));
+            }
+            keys.put(ID, Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Convert a window of entities into a cursor page, encoding the position of its last row
+     */
+    public static <T, R> CursorPage<R> toPage(Window<T> window, Function<T, R> mapper,
+                                              String sortBy, Sort.Direction direction) {
+        List<R> content = window.stream().map(mapper).toList();
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            Map<String, ?> keys = ((KeysetScrollPosition) window.positionAt(window.size() - 1)).getKeys();
+            nextCursor = encode(sortBy, direction, keys.get(ID), keys.get(sortBy));
+        }
+
+        return new CursorPage<>(content, content.size(), window.hasNext(), nextCursor);
+    }
+
+    private static String encode(String sortBy, Sort.Direction direction, Object id, Object sortValue) {
+        StringBuilder token = new StringBuilder()
+            .append(sortBy).append(SEPARATOR)
+            .append(direction.name()).append(SEPARATOR)
+            .append(id);
+        if (!ID.equals(sortBy)) {
+            token.append(SEPARATOR)
+                 .append(sortValue instanceof BigDecimal decimal ? decimal.toPlainString() : String.valueOf(sortValue));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,98 @@
+package com.loyalbridge.admin.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind recorder for admin last-login timestamps
+ *
+ * Logins only record the timestamp in memory; pending timestamps are flushed
+ * on a short interval (and at shutdown) as one JDBC batch, so the login path
+ * takes no row lock or commit. Readers merge the latest recorded value, which
+ * is kept after flushing since cached admin entities never see the update.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Component
+public class LastLoginRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    // Never moves a timestamp backwards, e.g. when another node flushed a later login
+    private static final String UPDATE_LAST_LOGIN =
+        "UPDATE admins SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    // One entry per admin that logged in on this node
+    private final Map<Long, LocalDateTime> latest = new ConcurrentHashMap<>();
+
+    public LastLoginRecorder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Record a login; the latest timestamp per admin wins
+     */
+    public void record(Long adminId, LocalDateTime loginAt) {
+        pending.merge(adminId, loginAt, LastLoginRecorder::later);
+        latest.merge(adminId, loginAt, LastLoginRecorder::later);
+    }
+
+    /**
+     * The fresher of the persisted last login and the latest one recorded here
+     */
+    public LocalDateTime latest(Long adminId, LocalDateTime persisted) {
+        LocalDateTime recorded = latest.get(adminId);
+        if (recorded == null || persisted == null) {
+            return recorded != null ? recorded : persisted;
+        }
+        return later(recorded, persisted);
+    }
+
+    /**
+     * Write pending timestamps in a single batched UPDATE
+     */
+    @Scheduled(fixedDelayString = "${loyalbridge.admin.last-login-flush-ms:5000}")
+    @PreDestroy
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(pending.entrySet());
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (Map.Entry<Long, LocalDateTime> entry : batch) {
+            Timestamp loginAt = Timestamp.valueOf(entry.getValue());
+            args.add(new Object[] {loginAt, entry.getKey(), loginAt});
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, args);
+        } catch (RuntimeException e) {
+            // Keep the entries pending and retry on the next flush
+            logger.error("Failed to flush {} last-login updates: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        // Drop only what was written; a newer login recorded meanwhile stays pending
+        batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+        logger.debug("Flushed {} last-login updates", batch.size());
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return b.isAfter(a) ? b : a;
+    }
+}
@@ -0,0 +1,241 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.dto.ThrottledKeyResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Brute-force throttle for admin logins
+ *
+ * Failed logins are counted per email and per client IP in sliding windows
+ * (the previous fixed window weighted by its remaining overlap plus the
+ * current one). A key over its limit is blocked with exponential back-off,
+ * and blocked attempts are rejected before the password hash is checked.
+ *
+ * Each key's state is an immutable snapshot swapped by compare-and-set, so
+ * recording a failure never takes a lock. The number of tracked keys is
+ * capped; idle keys are swept and, when full, new keys are not tracked.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Component
+public class LoginThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottle.class);
+
+    private static final String EMAIL_PREFIX = "email:";
+    private static final String IP_PREFIX = "ip:";
+
+    /**
+     * Failure counts of the current and previous window plus back-off state
+     */
+    private record State(long windowStart, int current, int previous, int strikes, long blockedUntil) {
+
+        State roll(long now, long windowMs) {
+            long elapsed = (now - windowStart) / windowMs;
+            if (elapsed == 0) {
+                return this;
+            }
+            if (elapsed == 1) {
+                return new State(windowStart + windowMs, 0, current, strikes, blockedUntil);
+            }
+            return new State(now - (now - windowStart) % windowMs, 0, 0, strikes, blockedUntil);
+        }
+
+        double estimate(long now, long windowMs) {
+            double previousWeight = (double) (windowMs - (now - windowStart)) / windowMs;
+            return previous * Math.max(0, previousWeight) + current;
+        }
+
+        boolean isIdle(long now, long windowMs) {
+            return blockedUntil <= now && now - windowStart >= 2 * windowMs;
+        }
+    }
+
+    private final Map<String, AtomicReference<State>> states = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Counter rejected;
+    private final Counter untracked;
+
+    @Value("${loyalbridge.login.throttle.window-seconds:300}")
+    private long windowSeconds;
+
+    @Value("${loyalbridge.login.throttle.email-max-failures:5}")
+    private int emailMaxFailures;
+
+    @Value("${loyalbridge.login.throttle.ip-max-failures:20}")
+    private int ipMaxFailures;
+
+    @Value("${loyalbridge.login.throttle.backoff-base-ms:1000}")
+    private long backoffBaseMs;
+
+    @Value("${loyalbridge.login.throttle.backoff-max-ms:900000}")
+    private long backoffMaxMs;
+
+    @Value("${loyalbridge.login.throttle.max-keys:100000}")
+    private int maxKeys;
+
+    @Autowired
+    public LoginThrottle(MeterRegistry meterRegistry) {
+        this(meterRegistry, Clock.systemUTC());
+    }
+
+    LoginThrottle(MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        this.rejected = Counter.builder("loyalbridge.auth.login.throttle.rejected")
+            .description("Login attempts rejected by the throttle").register(meterRegistry);
+        this.untracked = Counter.builder("loyalbridge.auth.login.throttle.untracked")
+            .description("Failures not tracked because the key table was full").register(meterRegistry);
+        Gauge.builder("loyalbridge.auth.login.throttle.keys", states, Map::size)
+            .description("Keys with recent login failures").register(meterRegistry);
+        Gauge.builder("loyalbridge.auth.login.throttle.blocked", this, throttle -> throttle.throttledKeys().size())
+            .description("Keys currently blocked").register(meterRegistry);
+    }
+
+    /**
+     * Reject the attempt if the email or client IP is currently blocked
+     *
+     * @throws LoginThrottledException with the time until the attempt may be retried
+     */
+    public void checkAllowed(String email, String clientIp) {
+        long now = clock.millis();
+        long blockedUntil = Math.max(blockedUntil(emailKey(email)), blockedUntil(ipKey(clientIp)));
+        if (blockedUntil > now) {
+            rejected.increment();
+            throw new LoginThrottledException(Math.max(1, (blockedUntil - now + 999) / 1000));
+        }
+    }
+
+    /**
+     * Count a failed login against the email and client IP
+     */
+    public void recordFailure(String email, String clientIp) {
+        recordFailure(emailKey(email), emailMaxFailures);
+        recordFailure(ipKey(clientIp), ipMaxFailures);
+    }
+
+    /**
+     * Clear the email's failures after a successful login; the IP keeps its count
+     */
+    public void recordSuccess(String email) {
+        states.remove(emailKey(email));
+    }
+
+    /**
+     * Keys that are blocked right now, longest block first
+     */
+    public List<ThrottledKeyResponse> throttledKeys() {
+        long now = clock.millis();
+        long windowMs = windowSeconds * 1000;
+        List<ThrottledKeyResponse> blocked = new ArrayList<>();
+
+        states.forEach((key, ref) -> {
+            State state = ref.get();
+            if (state.blockedUntil() > now) {
+                blocked.add(new ThrottledKeyResponse(
+                    key,
+                    state.roll(now, windowMs).estimate(now, windowMs),
+                    state.strikes(),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(state.blockedUntil()), ZoneId.systemDefault()),
+                    (state.blockedUntil() - now + 999) / 1000));
+            }
+        });
+        blocked.sort(Comparator.comparing(ThrottledKeyResponse::getBlockedUntil).reversed());
+        return blocked;
+    }
+
+    /**
+     * Drop keys with no failures in the last two windows and no active block
+     */
+    @Scheduled(fixedDelayString = "${loyalbridge.login.throttle.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = clock.millis();
+        long windowMs = windowSeconds * 1000;
+        int before = states.size();
+        states.values().removeIf(ref -> ref.get().isIdle(now, windowMs));
+        if (before != states.size()) {
+            logger.debug("Swept {} idle login throttle keys", before - states.size());
+        }
+    }
+
+    private void recordFailure(String key, int maxFailures) {
+        long now = clock.millis();
+        long windowMs = windowSeconds * 1000;
+
+        AtomicReference<State> ref = states.get(key);
+        if (ref == null) {
+            if (states.size() >= maxKeys) {
+                sweep();
+                if (states.size() >= maxKeys) {
+                    untracked.increment();
+                    return;
+                }
+            }
+            AtomicReference<State> created = new AtomicReference<>(new State(now, 0, 0, 0, 0));
+            ref = states.putIfAbsent(key, created);
+            if (ref == null) {
+                ref = created;
+            }
+        }
+
+        State previous;
+        State next;
+        do {
+            previous = ref.get();
+            next = failed(previous, now, windowMs, maxFailures);
+        } while (!ref.compareAndSet(previous, next));
+
+        if (next.strikes() > previous.strikes()) {
+            logger.warn("Login throttled for {} after {} recent failures (strike {}, blocked {} ms)",
+                       key, Math.round(next.estimate(now, windowMs)), next.strikes(), next.blockedUntil() - now);
+        }
+    }
+
+    private State failed(State state, long now, long windowMs, int maxFailures) {
+        State rolled = state.roll(now, windowMs);
+
+        // Back-off starts over once a key has gone a full window without failures
+        int strikes = rolled.estimate(now, windowMs) == 0 && rolled.blockedUntil() <= now ? 0 : rolled.strikes();
+        State counted = new State(rolled.windowStart(), rolled.current() + 1, rolled.previous(), strikes, rolled.blockedUntil());
+
+        if (counted.estimate(now, windowMs) <= maxFailures) {
+            return counted;
+        }
+        int nextStrikes = strikes + 1;
+        long backoff = Math.min(backoffMaxMs, backoffBaseMs << Math.min(nextStrikes - 1, 30));
+        return new State(counted.windowStart(), counted.current(), counted.previous(), nextStrikes, now + backoff);
+    }
+
+    private long blockedUntil(String key) {
+        AtomicReference<State> ref = states.get(key);
+        return ref != null ? ref.get().blockedUntil() : 0;
+    }
+
+    private static String emailKey(String email) {
+        return EMAIL_PREFIX + (email != null ? email.trim().toLowerCase(Locale.ROOT) : "");
+    }
+
+    private static String ipKey(String clientIp) {
+        return IP_PREFIX + (clientIp != null ? clientIp : "unknown");
+    }
+}
@@ -0,0 +1,21 @@
+package com.loyalbridge.admin.service;
+
+/**
+ * Thrown when a login attempt is rejected by the brute-force throttle
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("Too many failed login attempts. Try again in " + retryAfterSeconds + " seconds.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
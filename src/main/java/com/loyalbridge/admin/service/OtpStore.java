@@ -0,0 +1,215 @@
+package com.loyalbridge.admin.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * In-memory store of pending two-factor OTPs
+ *
+ * Holds one record per email with the code, expiry and failed attempt count,
+ * so the three can never drift apart. Expired records are evicted by a hashed
+ * timing wheel: each issue drops a deadline into the slot of its expiry tick
+ * and a scheduled tick only visits the slots that have come due.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Component
+public class OtpStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(OtpStore.class);
+
+    private static final int WHEEL_SIZE = 512;
+
+    /** Outcome of an OTP verification */
+    public enum Result {
+        VERIFIED, INVALID, EXPIRED, NOT_FOUND, LOCKED_OUT
+    }
+
+    private record OtpRecord(String code, long expiresAt, int failedAttempts) {}
+
+    private record Deadline(String email, long expiresAt) {}
+
+    private final Map<String, OtpRecord> records = new ConcurrentHashMap<>();
+    private final Queue<Deadline>[] wheel;
+    private final SecureRandom random = new SecureRandom();
+    private final Clock clock;
+
+    private final Counter issued;
+    private final Counter verified;
+    private final Counter expired;
+    private final Counter lockedOut;
+
+    // Last wheel tick whose slot has been processed
+    private long processedTick;
+
+    @Value("${loyalbridge.otp.expiry-minutes:5}")
+    private long expiryMinutes;
+
+    @Value("${loyalbridge.otp.length:6}")
+    private int length;
+
+    @Value("${loyalbridge.otp.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${loyalbridge.otp.wheel-tick-ms:1000}")
+    private long tickMs;
+
+    @Autowired
+    public OtpStore(MeterRegistry meterRegistry) {
+        this(meterRegistry, Clock.systemUTC());
+    }
+
+    @SuppressWarnings("unchecked")
+    OtpStore(MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+
+        this.issued = Counter.builder("loyalbridge.otp.issued")
+            .description("OTPs issued").register(meterRegistry);
+        this.verified = Counter.builder("loyalbridge.otp.verified")
+            .description("OTPs verified successfully").register(meterRegistry);
+        this.expired = Counter.builder("loyalbridge.otp.expired")
+            .description("OTPs that expired before being verified").register(meterRegistry);
+        this.lockedOut = Counter.builder("loyalbridge.otp.locked.out")
+            .description("OTPs discarded after too many invalid attempts").register(meterRegistry);
+        Gauge.builder("loyalbridge.otp.pending", records, Map::size)
+            .description("OTPs awaiting verification").register(meterRegistry);
+    }
+
+    /**
+     * Issue a new OTP for an email, replacing any pending one
+     */
+    public String issue(String email) {
+        String code = generateCode();
+        long expiresAt = clock.millis() + expiryMinutes * 60_000;
+
+        records.put(email, new OtpRecord(code, expiresAt, 0));
+        wheel[slot(deadlineTick(expiresAt))].add(new Deadline(email, expiresAt));
+        issued.increment();
+        return code;
+    }
+
+    /**
+     * Verify a code; the record is consumed on success, expiry, or lock-out
+     */
+    public Result verify(String email, String code) {
+        Result[] result = {Result.NOT_FOUND};
+        long now = clock.millis();
+
+        records.computeIfPresent(email, (key, record) -> {
+            if (record.expiresAt() <= now) {
+                result[0] = Result.EXPIRED;
+                return null;
+            }
+            if (code != null && MessageDigest.isEqual(record.code().getBytes(StandardCharsets.UTF_8),
+                                                      code.getBytes(StandardCharsets.UTF_8))) {
+                result[0] = Result.VERIFIED;
+                return null;
+            }
+            int failedAttempts = record.failedAttempts() + 1;
+            if (failedAttempts >= maxAttempts) {
+                result[0] = Result.LOCKED_OUT;
+                return null;
+            }
+            result[0] = Result.INVALID;
+            return new OtpRecord(record.code(), record.expiresAt(), failedAttempts);
+        });
+
+        switch (result[0]) {
+            case VERIFIED -> verified.increment();
+            case EXPIRED -> expired.increment();
+            case LOCKED_OUT -> lockedOut.increment();
+            default -> { }
+        }
+        return result[0];
+    }
+
+    /**
+     * Advance the wheel, evicting records whose deadline has passed
+     */
+    @Scheduled(fixedRateString = "${loyalbridge.otp.wheel-tick-ms:1000}")
+    public synchronized void tick() {
+        long now = clock.millis();
+        long currentTick = now / tickMs;
+        if (processedTick == 0) {
+            processedTick = currentTick - 1;
+        }
+
+        // After a long pause visiting every slot once is enough
+        long from = Math.max(processedTick + 1, currentTick - WHEEL_SIZE + 1);
+        int evicted = 0;
+        for (long tick = from; tick <= currentTick; tick++) {
+            evicted += processSlot(wheel[slot(tick)], now);
+        }
+        processedTick = currentTick;
+
+        if (evicted > 0) {
+            logger.debug("Evicted {} expired OTPs", evicted);
+        }
+    }
+
+    private int processSlot(Queue<Deadline> bucket, long now) {
+        int evicted = 0;
+        for (int i = bucket.size(); i > 0; i--) {
+            Deadline deadline = bucket.poll();
+            if (deadline == null) {
+                break;
+            }
+            if (deadline.expiresAt() > now) {
+                // Due in a later round of the wheel
+                bucket.add(deadline);
+                continue;
+            }
+            // Only evict the issuance this deadline belongs to, not a newer OTP for the same email
+            boolean[] removed = {false};
+            records.computeIfPresent(deadline.email(), (key, record) -> {
+                if (record.expiresAt() == deadline.expiresAt()) {
+                    removed[0] = true;
+                    return null;
+                }
+                return record;
+            });
+            if (removed[0]) {
+                expired.increment();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private long deadlineTick(long expiresAt) {
+        return (expiresAt + tickMs - 1) / tickMs;
+    }
+
+    private static int slot(long tick) {
+        return (int) Math.floorMod(tick, (long) WHEEL_SIZE);
+    }
+
+    private String generateCode() {
+        StringBuilder code = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            code.append(random.nextInt(10));
+        }
+        return code.toString();
+    }
+}
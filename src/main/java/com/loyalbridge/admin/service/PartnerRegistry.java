@@ -0,0 +1,192 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.dto.PartnerResponse;
+import com.loyalbridge.admin.model.Partner;
+import com.loyalbridge.admin.model.PartnerRegistryVersion;
+import com.loyalbridge.admin.repository.PartnerRegistryVersionRepository;
+import com.loyalbridge.admin.repository.PartnerRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory registry of all partners, served from an immutable snapshot
+ *
+ * The snapshot (by id, by name and the active list) is rebuilt from the
+ * partners table and swapped in as a whole, so reads take no lock and never
+ * see a half-applied change. Partner writes bump a version row in their own
+ * transaction and rebuild the snapshot after commit; other nodes notice the
+ * new version on their periodic check.
+ *
+ * Snapshot entries are shared between callers and must be treated as read-only.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Component
+public class PartnerRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartnerRegistry.class);
+
+    private record Snapshot(long version,
+                            Map<Long, PartnerResponse> byId,
+                            Map<String, PartnerResponse> byName,
+                            List<PartnerResponse> active) {
+    }
+
+    private final PartnerRepository partnerRepository;
+    private final PartnerRegistryVersionRepository versionRepository;
+    // Built on first read
+    private volatile Snapshot snapshot;
+
+    public PartnerRegistry(PartnerRepository partnerRepository,
+                           PartnerRegistryVersionRepository versionRepository,
+                           MeterRegistry meterRegistry) {
+        this.partnerRepository = partnerRepository;
+        this.versionRepository = versionRepository;
+        Gauge.builder("loyalbridge.partners.registry.size", this,
+                      registry -> registry.snapshot != null ? registry.snapshot.byId().size() : 0)
+            .description("Partners held in the in-memory registry").register(meterRegistry);
+    }
+
+    public Optional<PartnerResponse> findById(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    public Optional<PartnerResponse> findByName(String name) {
+        return Optional.ofNullable(current().byName().get(name));
+    }
+
+    public boolean existsByName(String name) {
+        return current().byName().containsKey(name);
+    }
+
+    /**
+     * Active partners in id order
+     */
+    public List<PartnerResponse> activePartners() {
+        return current().active();
+    }
+
+    /**
+     * Bump the registry version in the caller's transaction and rebuild after commit
+     */
+    public void markChanged() {
+        if (versionRepository.increment(PartnerRegistryVersion.SINGLETON_ID, LocalDateTime.now()) == 0) {
+            PartnerRegistryVersion version = new PartnerRegistryVersion();
+            version.setVersion(1L);
+            version.setChangedAt(LocalDateTime.now());
+            versionRepository.save(version);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshQuietly();
+                }
+            });
+        } else {
+            refreshQuietly();
+        }
+    }
+
+    /**
+     * Rebuild the snapshot if another node changed partners since it was built
+     */
+    @Scheduled(fixedDelayString = "${loyalbridge.partners.registry.version-check-ms:5000}")
+    public void checkVersion() {
+        Snapshot current = snapshot;
+        if (current != null && currentVersion() != current.version()) {
+            logger.debug("Partner registry version changed from {}, rebuilding", current.version());
+            refresh();
+        }
+    }
+
+    /**
+     * Rebuild the snapshot from the partners table and swap it in
+     *
+     * The version is read before the partners, so a change committed in
+     * between is included early and only causes one extra rebuild.
+     */
+    public synchronized void refresh() {
+        long version = currentVersion();
+        List<Partner> partners = partnerRepository.findAll();
+
+        Map<Long, PartnerResponse> byId = new HashMap<>();
+        Map<String, PartnerResponse> byName = new HashMap<>();
+        for (Partner partner : partners) {
+            PartnerResponse response = toResponse(partner);
+            byId.put(response.getId(), response);
+            byName.put(response.getName(), response);
+        }
+        List<PartnerResponse> active = byId.values().stream()
+            .filter(response -> Boolean.TRUE.equals(response.getIsActive()))
+            .sorted(Comparator.comparing(PartnerResponse::getId))
+            .toList();
+
+        snapshot = new Snapshot(version, Map.copyOf(byId), Map.copyOf(byName), active);
+        logger.debug("Partner registry rebuilt: {} partners at version {}", byId.size(), version);
+    }
+
+    /**
+     * Convert Partner entity to PartnerResponse DTO
+     */
+    static PartnerResponse toResponse(Partner partner) {
+        PartnerResponse response = new PartnerResponse();
+        response.setId(partner.getId());
+        response.setName(partner.getName());
+        response.setDescription(partner.getDescription());
+        response.setApiUrl(partner.getApiUrl());
+        response.setAuthMethod(partner.getAuthMethod().name());
+        response.setConversionRate(partner.getConversionRate());
+        response.setIsActive(partner.getIsActive());
+        response.setWebhookUrl(partner.getWebhookUrl());
+        response.setConnectionTimeout(partner.getConnectionTimeout());
+        response.setReadTimeout(partner.getReadTimeout());
+        response.setTotalTransactions(partner.getTotalTransactions());
+        response.setTotalAmountProcessed(partner.getTotalAmountProcessed());
+        response.setLastTransactionAt(partner.getLastTransactionAt());
+        response.setCreatedAt(partner.getCreatedAt());
+        response.setUpdatedAt(partner.getUpdatedAt());
+        return response;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private long currentVersion() {
+        return versionRepository.findVersion(PartnerRegistryVersion.SINGLETON_ID).orElse(0L);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // The version stays ahead of the snapshot, so the next check retries
+            logger.error("Failed to rebuild partner registry after a change: {}", e.getMessage());
+        }
+    }
+}
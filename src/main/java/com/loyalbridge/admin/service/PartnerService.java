@@ -1,18 +1,27 @@
 package com.loyalbridge.admin.service;
 
+import com.loyalbridge.admin.config.CacheNames;
 import com.loyalbridge.admin.dto.*;
 import com.loyalbridge.admin.model.*;
 import com.loyalbridge.admin.repository.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Service for partner management operations
@@ -26,13 +35,27 @@ public class PartnerService {
 
     private static final Logger logger = LoggerFactory.getLogger(PartnerService.class);
 
+    /** Non-null properties usable as keyset sort keys, with parsers for their cursor values */
+    private static final Map<String, Function<String, ?>> PARTNER_SORT_KEYS = Map.of(
+        "createdAt", LocalDateTime::parse,
+        "name", Function.identity(),
+        "conversionRate", BigDecimal::new,
+        "id", Long::valueOf
+    );
+
     private final PartnerRepository partnerRepository;
     private final ConversionLogRepository conversionLogRepository;
+    private final SingleFlight singleFlight;
+    private final PartnerRegistry partnerRegistry;
 
     public PartnerService(PartnerRepository partnerRepository,
-                         ConversionLogRepository conversionLogRepository) {
+                         ConversionLogRepository conversionLogRepository,
+                         SingleFlight singleFlight,
+                         PartnerRegistry partnerRegistry) {
         this.partnerRepository = partnerRepository;
         this.conversionLogRepository = conversionLogRepository;
+        this.singleFlight = singleFlight;
+        this.partnerRegistry = partnerRegistry;
     }
 
     /**
@@ -41,33 +64,53 @@ public class PartnerService {
     public Page<PartnerResponse> getAllPartners(PartnerSearchCriteria criteria, Pageable pageable) {
         logger.debug("Getting partners with criteria: {}", criteria);
         
-        return partnerRepository.findPartnersWithCriteria(
-            criteria.getName(),
-            criteria.getIsActive(),
+        return partnerRepository.findAll(
+            PartnerSpecifications.matching(
+                criteria.getName(),
+                parseAuthMethod(criteria.getAuthMethod()),
+                criteria.getIsActive()),
             pageable
-        ).map(this::convertToPartnerResponse);
+        ).map(PartnerRegistry::toResponse);
+    }
+
+    /**
+     * Get partners matching the criteria using keyset pagination (no count query)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PartnerResponse> scrollPartners(PartnerSearchCriteria criteria, String after, int size,
+                                                      String sortBy, Sort.Direction direction) {
+        logger.debug("Scrolling partners with criteria: {}, after: {}", criteria, after);
+
+        Sort sort = KeysetCursor.sort(sortBy, direction, PARTNER_SORT_KEYS);
+        KeysetScrollPosition position = KeysetCursor.decode(after, sortBy, direction, PARTNER_SORT_KEYS);
+
+        Window<Partner> window = partnerRepository.findBy(
+            PartnerSpecifications.matching(criteria.getName(), parseAuthMethod(criteria.getAuthMethod()),
+                                           criteria.getIsActive()),
+            query -> query.sortBy(sort).limit(size).scroll(position));
+
+        return KeysetCursor.toPage(window, PartnerRegistry::toResponse, sortBy, direction);
     }
 
     /**
-     * Get partner by ID
+     * Get partner by ID from the partner registry
      */
     public PartnerResponse getPartnerById(Long id) {
         logger.debug("Getting partner by ID: {}", id);
         
-        Partner partner = partnerRepository.findById(id)
+        return partnerRegistry.findById(id)
             .orElseThrow(() -> new RuntimeException("Partner not found with ID: " + id));
-        
-        return convertToPartnerResponse(partner);
     }
 
     /**
      * Create new partner
      */
+    @CacheEvict(cacheNames = CacheNames.PARTNER_STATS, allEntries = true)
     public PartnerResponse createPartner(CreatePartnerRequest request) {
         logger.info("Creating new partner: {}", request.getName());
         
         // Check if partner name already exists
-        if (partnerRepository.existsByName(request.getName())) {
+        if (partnerRegistry.existsByName(request.getName())) {
             throw new RuntimeException("Partner with name '" + request.getName() + "' already exists");
         }
         
@@ -86,14 +129,16 @@ public class PartnerService {
         partner.setApiKey(generateApiKey());
         
         partner = partnerRepository.save(partner);
+        partnerRegistry.markChanged();
         
         logger.info("Partner created successfully: {} (ID: {})", partner.getName(), partner.getId());
-        return convertToPartnerResponse(partner);
+        return PartnerRegistry.toResponse(partner);
     }
 
     /**
      * Update partner
      */
+    @CacheEvict(cacheNames = CacheNames.PARTNER_STATS, allEntries = true)
     public PartnerResponse updatePartner(Long id, UpdatePartnerRequest request) {
         logger.info("Updating partner: {}", id);
         
@@ -104,7 +149,7 @@ public class PartnerService {
         if (request.getName() != null && !request.getName().trim().isEmpty()) {
             // Check if new name conflicts with existing partner
             if (!partner.getName().equals(request.getName()) && 
-                partnerRepository.existsByName(request.getName())) {
+                partnerRegistry.existsByName(request.getName())) {
                 throw new RuntimeException("Partner with name '" + request.getName() + "' already exists");
             }
             partner.setName(request.getName());
@@ -139,14 +184,16 @@ public class PartnerService {
         }
         
         partner = partnerRepository.save(partner);
+        partnerRegistry.markChanged();
         
         logger.info("Partner updated successfully: {} (ID: {})", partner.getName(), partner.getId());
-        return convertToPartnerResponse(partner);
+        return PartnerRegistry.toResponse(partner);
     }
 
     /**
      * Toggle partner active status
      */
+    @CacheEvict(cacheNames = CacheNames.PARTNER_STATS, allEntries = true)
     public PartnerResponse togglePartnerStatus(Long id) {
         logger.info("Toggling status for partner: {}", id);
         
@@ -156,16 +203,18 @@ public class PartnerService {
         Boolean oldStatus = partner.getIsActive();
         partner.setIsActive(!oldStatus);
         partner = partnerRepository.save(partner);
+        partnerRegistry.markChanged();
         
         logger.info("Partner {} status changed from {} to {}", 
                    id, oldStatus, partner.getIsActive());
         
-        return convertToPartnerResponse(partner);
+        return PartnerRegistry.toResponse(partner);
     }
 
     /**
      * Delete partner
      */
+    @CacheEvict(cacheNames = CacheNames.PARTNER_STATS, allEntries = true)
     public void deletePartner(Long id) {
         logger.info("Deleting partner: {}", id);
         
@@ -181,78 +230,51 @@ public class PartnerService {
         }
         
         partnerRepository.delete(partner);
+        partnerRegistry.markChanged();
         logger.info("Partner deleted successfully: {} (ID: {})", partner.getName(), id);
     }
 
     /**
      * Get partner statistics
      */
+    @Cacheable(CacheNames.PARTNER_STATS)
     public PartnerStatsResponse getPartnerStats() {
+        return computePartnerStats();
+    }
+
+    /**
+     * Compute partner statistics, bypassing the cache (used to refresh it)
+     *
+     * Concurrent callers share one in-flight computation.
+     */
+    public PartnerStatsResponse computePartnerStats() {
+        return singleFlight.execute("partnerStats", this::summarizePartners);
+    }
+
+    private PartnerStatsResponse summarizePartners() {
         logger.debug("Getting partner statistics");
         
-        PartnerStatsResponse stats = new PartnerStatsResponse();
-        
-        stats.setTotalPartners(partnerRepository.count());
-        stats.setActivePartners(partnerRepository.countByIsActive(true));
-        stats.setInactivePartners(partnerRepository.countByIsActive(false));
-        stats.setTotalAmountProcessed(partnerRepository.sumTotalAmountProcessed());
-        
-        // Calculate total transactions
-        List<Partner> partners = partnerRepository.findAll();
-        long totalTransactions = partners.stream()
-            .mapToLong(p -> p.getTotalTransactions() != null ? p.getTotalTransactions() : 0L)
-            .sum();
-        stats.setTotalTransactions(totalTransactions);
-        
-        // Get top partners
-        Pageable topPartnerPageable = PageRequest.of(0, 1);
-        
-        Page<Partner> topByTransactions = partnerRepository.findTopPartnersByTransactions(topPartnerPageable);
-        if (!topByTransactions.isEmpty()) {
-            stats.setTopPartnerByTransactions(topByTransactions.getContent().get(0).getName());
-        }
-        
-        Page<Partner> topByAmount = partnerRepository.findTopPartnersByAmount(topPartnerPageable);
-        if (!topByAmount.isEmpty()) {
-            stats.setTopPartnerByAmount(topByAmount.getContent().get(0).getName());
+        // Counts and sums in one aggregate, both top partners in one ranked query
+        PartnerStatsResponse stats = partnerRepository.summarizeStats();
+        for (PartnerRanking ranking : partnerRepository.findTopPartners()) {
+            if (ranking.isTopByTransactions()) {
+                stats.setTopPartnerByTransactions(ranking.getName());
+            }
+            if (ranking.isTopByAmount()) {
+                stats.setTopPartnerByAmount(ranking.getName());
+            }
         }
         
         return stats;
     }
 
     /**
-     * Get active partners for dropdown/selection
+     * Get active partners for dropdown/selection from the partner registry
      */
     public List<PartnerResponse> getActivePartners() {
         logger.debug("Getting active partners");
         
-        return partnerRepository.findByIsActiveTrue()
-            .stream()
-            .map(this::convertToPartnerResponse)
-            .toList();
-    }
-
-    /**
-     * Convert Partner entity to PartnerResponse DTO
-     */
-    private PartnerResponse convertToPartnerResponse(Partner partner) {
-        PartnerResponse response = new PartnerResponse();
-        response.setId(partner.getId());
-        response.setName(partner.getName());
-        response.setDescription(partner.getDescription());
-        response.setApiUrl(partner.getApiUrl());
-        response.setAuthMethod(partner.getAuthMethod().name());
-        response.setConversionRate(partner.getConversionRate());
-        response.setIsActive(partner.getIsActive());
-        response.setWebhookUrl(partner.getWebhookUrl());
-        response.setConnectionTimeout(partner.getConnectionTimeout());
-        response.setReadTimeout(partner.getReadTimeout());
-        response.setTotalTransactions(partner.getTotalTransactions());
-        response.setTotalAmountProcessed(partner.getTotalAmountProcessed());
-        response.setLastTransactionAt(partner.getLastTransactionAt());
-        response.setCreatedAt(partner.getCreatedAt());
-        response.setUpdatedAt(partner.getUpdatedAt());
-        return response;
+        return partnerRegistry.activePartners();
     }
 
     /**
@@ -261,4 +283,16 @@ public class PartnerService {
     private String generateApiKey() {
         return "sk_loyalbridge_" + UUID.randomUUID().toString().replace("-", "");
     }
-}
\ No newline at end of file
+
+    private AuthMethod parseAuthMethod(String authMethod) {
+        if (authMethod == null || authMethod.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return AuthMethod.valueOf(authMethod.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid auth method provided: {}", authMethod);
+            return null;
+        }
+    }
+}
@@ -29,16 +29,22 @@ public class SampleDataService {
     private final UserRepository userRepository;
     private final PartnerRepository partnerRepository;
     private final PointsHistoryRepository pointsHistoryRepository;
-    private final ConversionLogRepository conversionLogRepository;
+    private final ConversionLogService conversionLogService;
+    private final UserStatsCounterService userStatsCounterService;
+    private final PartnerRegistry partnerRegistry;
 
     public SampleDataService(UserRepository userRepository,
                            PartnerRepository partnerRepository,
                            PointsHistoryRepository pointsHistoryRepository,
-                           ConversionLogRepository conversionLogRepository) {
+                           ConversionLogService conversionLogService,
+                           UserStatsCounterService userStatsCounterService,
+                           PartnerRegistry partnerRegistry) {
         this.userRepository = userRepository;
         this.partnerRepository = partnerRepository;
         this.pointsHistoryRepository = pointsHistoryRepository;
-        this.conversionLogRepository = conversionLogRepository;
+        this.conversionLogService = conversionLogService;
+        this.userStatsCounterService = userStatsCounterService;
+        this.partnerRegistry = partnerRegistry;
     }
 
     /**
@@ -52,6 +58,9 @@ public class SampleDataService {
             createSamplePartners();
             createSamplePointsHistory();
             createSampleConversionLogs();
+            // Users and partners were written directly, not through their services
+            userStatsCounterService.reconcile();
+            partnerRegistry.markChanged();
             logger.info("Sample data creation completed");
         } else {
             logger.debug("Sample data already exists, skipping creation");
@@ -220,7 +229,7 @@ public class SampleDataService {
                 log.setErrorMessage("Partner API returned error code " + (400 + random.nextInt(100)));
             }
 
-            conversionLogRepository.save(log);
+            conversionLogService.createConversion(log);
         }
     }
 
@@ -0,0 +1,111 @@
+package com.loyalbridge.admin.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Encrypts token signing private keys before they are stored in the shared table
+ *
+ * Keys are sealed with AES-GCM under a key-encryption key that comes from
+ * configuration (an environment variable or a secret injected from the KMS),
+ * never from the database, so a copy of the table alone cannot sign tokens.
+ * The kid is bound as associated data, so a sealed key cannot be moved to
+ * another row. There is no default key: startup fails when tokens are signed
+ * by the key ring and none is configured.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Component
+public class SigningKeyCipher {
+
+    private static final String PREFIX = "v1:";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecureRandom random = new SecureRandom();
+    private SecretKey keyEncryptionKey;
+
+    // Base64 AES key (16, 24 or 32 bytes); only required when the key ring signs tokens
+    @Value("${loyalbridge.security.jwt.key-encryption-key:}")
+    private String encodedKeyEncryptionKey;
+
+    @Value("${loyalbridge.security.jwt.algorithm:ES256}")
+    private JwtKeyRing.Algorithm algorithm = JwtKeyRing.Algorithm.ES256;
+
+    @PostConstruct
+    void init() {
+        if (encodedKeyEncryptionKey == null || encodedKeyEncryptionKey.isBlank()) {
+            if (algorithm != JwtKeyRing.Algorithm.HS256) {
+                throw new IllegalStateException("loyalbridge.security.jwt.key-encryption-key must be set to sign tokens with "
+                    + algorithm + "; supply it from the environment or KMS");
+            }
+            return;
+        }
+        byte[] key = Base64.getDecoder().decode(encodedKeyEncryptionKey.trim());
+        if (key.length != 16 && key.length != 24 && key.length != 32) {
+            throw new IllegalStateException("Signing key encryption key must be 16, 24 or 32 bytes, got " + key.length);
+        }
+        keyEncryptionKey = new SecretKeySpec(key, "AES");
+    }
+
+    /**
+     * Seal an encoded private key for storage under the given kid
+     */
+    public String encrypt(String kid, byte[] privateKey) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(iv);
+        Cipher cipher = cipher(Cipher.ENCRYPT_MODE, kid, iv);
+        byte[] sealed = cipher.doFinal(privateKey);
+
+        return PREFIX + Base64.getEncoder().encodeToString(
+            ByteBuffer.allocate(iv.length + sealed.length).put(iv).put(sealed).array());
+    }
+
+    /**
+     * Open a stored private key
+     *
+     * @throws GeneralSecurityException if the value was sealed under another key or kid, or was altered
+     */
+    public byte[] decrypt(String kid, String stored) throws GeneralSecurityException {
+        if (!isEncrypted(stored)) {
+            throw new GeneralSecurityException("Signing key " + kid + " is not encrypted");
+        }
+        byte[] sealed = Base64.getDecoder().decode(stored.substring(PREFIX.length()));
+        if (sealed.length <= IV_BYTES) {
+            throw new GeneralSecurityException("Signing key " + kid + " is truncated");
+        }
+        Cipher cipher = cipher(Cipher.DECRYPT_MODE, kid, Arrays.copyOf(sealed, IV_BYTES));
+        return cipher.doFinal(sealed, IV_BYTES, sealed.length - IV_BYTES);
+    }
+
+    /**
+     * Whether a stored value was sealed by this cipher rather than written as plain PKCS#8
+     */
+    public boolean isEncrypted(String stored) {
+        return stored != null && stored.startsWith(PREFIX);
+    }
+
+    private Cipher cipher(int mode, String kid, byte[] iv) throws GeneralSecurityException {
+        if (keyEncryptionKey == null) {
+            throw new GeneralSecurityException("No signing key encryption key is configured");
+        }
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(mode, keyEncryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+        cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+        return cipher;
+    }
+}
@@ -0,0 +1,91 @@
+package com.loyalbridge.admin.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical computations into one
+ *
+ * The first caller for a key runs the computation on its own thread; callers
+ * arriving while it is in flight wait for and share its result (or its
+ * exception). Nothing is kept once the computation completes, so a caller
+ * arriving afterwards starts a fresh one; caching is left to the cache layer.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Component
+public class SingleFlight {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> executedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalescedCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("loyalbridge.singleflight.in.flight", inFlight, Map::size)
+            .description("Computations currently shared by concurrent callers").register(meterRegistry);
+    }
+
+    /**
+     * Run the computation, or join the one already in flight for the key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> computation) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            counter(coalescedCounters, key, "coalesced").increment();
+            return (T) await(existing);
+        }
+
+        counter(executedCounters, key, "executed").increment();
+        try {
+            T result = computation.get();
+            created.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a shared computation", e);
+        } catch (ExecutionException e) {
+            // Rethrow the leader's exception as is, so callers handle it like their own
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private Counter counter(Map<String, Counter> counters, String key, String outcome) {
+        return counters.computeIfAbsent(key, k -> Counter.builder("loyalbridge.singleflight.calls")
+            .description("Calls that ran a computation or joined one in flight")
+            .tag("key", k)
+            .tag("outcome", outcome)
+            .register(meterRegistry));
+    }
+}
@@ -0,0 +1,131 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.model.RevokedToken;
+import com.loyalbridge.admin.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Cluster-wide token revocation backed by the revoked_tokens table
+ *
+ * A logout is applied to the local revocation store immediately and appended
+ * to the table. Every node tails the table by id watermark into its own store,
+ * so request checks stay in memory while a logout reaches all nodes within
+ * one poll interval.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class TokenRevocationLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationLog.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    // Highest revoked_tokens id applied to the local store
+    private volatile long watermark;
+    private volatile long lastPollMillis = System.currentTimeMillis();
+
+    @Value("${loyalbridge.security.revocation.poll-batch-size:500}")
+    private int batchSize;
+
+    // Re-read window for rows committed out of id order; should exceed clock skew between nodes
+    @Value("${loyalbridge.security.revocation.tail-overlap-ms:10000}")
+    private long tailOverlapMs;
+
+    public TokenRevocationLog(RevokedTokenRepository revokedTokenRepository,
+                              TokenRevocationStore tokenRevocationStore,
+                              MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenRevocationStore = tokenRevocationStore;
+
+        Gauge.builder("loyalbridge.auth.revocation.log.poll.age", this,
+                      log -> (System.currentTimeMillis() - log.lastPollMillis) / 1000.0)
+            .description("Seconds since revocations from other nodes were last applied")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Revoke a token on this node and publish the revocation to the other nodes
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        tokenRevocationStore.revoke(tokenId, expiresAt);
+        revokedTokenRepository.save(new RevokedToken(tokenId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+    }
+
+    /**
+     * Check the local store, which includes revocations made on other nodes up to the last poll
+     */
+    @Transactional(readOnly = true)
+    public boolean isRevoked(String tokenId) {
+        return tokenRevocationStore.isRevoked(tokenId);
+    }
+
+    /**
+     * Apply revocations appended since the last poll to the local store
+     */
+    @Scheduled(fixedDelayString = "${loyalbridge.security.revocation.poll-interval-ms:2000}")
+    @Transactional(readOnly = true)
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        int applied = 0;
+
+        if (watermark > 0) {
+            for (RevokedToken revokedToken : revokedTokenRepository.findLateCommitted(
+                    watermark, now.minusNanos(tailOverlapMs * 1_000_000), now)) {
+                apply(revokedToken);
+                applied++;
+            }
+        }
+
+        List<RevokedToken> batch;
+        do {
+            batch = revokedTokenRepository.findAppendedAfter(watermark, now, Limit.of(batchSize));
+            for (RevokedToken revokedToken : batch) {
+                apply(revokedToken);
+                watermark = revokedToken.getId();
+            }
+            applied += batch.size();
+        } while (batch.size() == batchSize);
+
+        lastPollMillis = System.currentTimeMillis();
+        if (applied > 0) {
+            logger.debug("Applied {} revocations from the revocation log (watermark {})", applied, watermark);
+        }
+    }
+
+    /**
+     * Delete revocations of tokens that have expired
+     */
+    @Scheduled(fixedDelayString = "${loyalbridge.security.revocation.sweep-interval-ms:60000}")
+    public void purgeExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.debug("Purged {} expired rows from the revocation log", deleted);
+        }
+    }
+
+    private void apply(RevokedToken revokedToken) {
+        tokenRevocationStore.revoke(revokedToken.getTokenId(),
+                                    revokedToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,156 @@
+package com.loyalbridge.admin.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory store of revoked tokens
+ *
+ * Entries are keyed by token id (the jti claim) and live exactly until the
+ * token's own expiry, after which the token is rejected anyway. A Bloom filter
+ * in front of the map answers the common "not revoked" case without a map
+ * lookup; a scheduled sweep drops expired entries and rebuilds the filter.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Component
+public class TokenRevocationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationStore.class);
+
+    // Token id -> expiry in epoch millis
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    // Serialises writers with filter rebuilds so no revocation is lost in a swap
+    private final Object writeLock = new Object();
+    private volatile BloomFilter filter;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder revokedHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    @Value("${loyalbridge.security.revocation.expected-entries:10000}")
+    private int expectedEntries;
+
+    @Value("${loyalbridge.security.revocation.false-positive-probability:0.01}")
+    private double falsePositiveProbability;
+
+    @Autowired
+    public TokenRevocationStore(MeterRegistry meterRegistry) {
+        this(meterRegistry, Clock.systemUTC());
+    }
+
+    TokenRevocationStore(MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        Gauge.builder("loyalbridge.auth.revocation.size", revoked, Map::size)
+            .description("Revoked tokens that have not yet expired")
+            .register(meterRegistry);
+        FunctionCounter.builder("loyalbridge.auth.revocation.checks", checks, LongAdder::sum)
+            .description("Revocation checks performed")
+            .register(meterRegistry);
+        FunctionCounter.builder("loyalbridge.auth.revocation.bloom.false.positives", falsePositives, LongAdder::sum)
+            .description("Checks the Bloom filter passed to the map that were not revoked")
+            .register(meterRegistry);
+        Gauge.builder("loyalbridge.auth.revocation.bloom.false.positive.rate", this, TokenRevocationStore::falsePositiveRate)
+            .description("Share of non-revoked checks that missed the Bloom filter fast path")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        this.filter = new BloomFilter(expectedEntries, falsePositiveProbability);
+    }
+
+    /**
+     * Revoke a token until it expires
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        long expiry = expiresAt.toEpochMilli();
+        if (expiry <= clock.millis()) {
+            return;
+        }
+        synchronized (writeLock) {
+            revoked.put(tokenId, expiry);
+            filter.put(tokenId);
+        }
+        logger.debug("Revoked token {} until {}", tokenId, expiresAt);
+    }
+
+    /**
+     * Check whether a token has been revoked
+     */
+    public boolean isRevoked(String tokenId) {
+        checks.increment();
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+
+        if (!isLive(tokenId)) {
+            falsePositives.increment();
+            return false;
+        }
+        revokedHits.increment();
+        return true;
+    }
+
+    /**
+     * Same answer as {@link #isRevoked} without counting a check, for reporting rather than authentication
+     */
+    public boolean contains(String tokenId) {
+        return filter.mightContain(tokenId) && isLive(tokenId);
+    }
+
+    private boolean isLive(String tokenId) {
+        Long expiry = revoked.get(tokenId);
+        return expiry != null && expiry > clock.millis();
+    }
+
+    /**
+     * Drop expired entries and rebuild the Bloom filter from the remaining ones
+     */
+    @Scheduled(fixedDelayString = "${loyalbridge.security.revocation.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = clock.millis();
+        synchronized (writeLock) {
+            int before = revoked.size();
+            revoked.values().removeIf(expiry -> expiry <= now);
+
+            // Grow the filter if revocations outnumber the configured expectation
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), falsePositiveProbability);
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+
+            if (before != revoked.size()) {
+                logger.debug("Swept {} expired revoked tokens, {} remaining", before - revoked.size(), revoked.size());
+            }
+        }
+    }
+
+    /**
+     * Number of revoked tokens that have not yet been swept
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    private double falsePositiveRate() {
+        long negatives = checks.sum() - revokedHits.sum();
+        return negatives > 0 ? (double) falsePositives.sum() / negatives : 0.0;
+    }
+}
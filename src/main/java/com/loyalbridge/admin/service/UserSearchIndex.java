@@ -0,0 +1,426 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.model.User;
+import com.loyalbridge.admin.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-process trigram index over user name, email and phone number
+ *
+ * Substring filters are resolved to a set of candidate user ids from the
+ * index so the database only evaluates the LIKE predicate on those rows
+ * instead of scanning the whole users table. Terms shorter than a trigram,
+ * or terms matching too many users, fall back to the plain database search.
+ *
+ * Each trigram maps to a sorted array of user ids. Arrays are never modified
+ * once published: a write swaps in a copy, so searches read them without
+ * locking. Writes arriving while the index is being built are recorded and
+ * replayed over the built index (a removal as a tombstone), so a user deleted
+ * mid-build is not resurrected by the rows streamed before the delete. Above
+ * the configured number of users the index is dropped and every search goes
+ * to the database.
+ *
+ * Writes through JPA on this node update the index directly. Users added or
+ * edited elsewhere (the consumer app, bulk loads, other admin nodes) are
+ * picked up by a periodic catch-up on an updated_at and id watermark, so the
+ * index lags those writes by at most one catch-up interval. Users deleted
+ * elsewhere stay in the index only as extra candidates, which the database
+ * predicate then filters out.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndex.class);
+
+    private static final int GRAM = 3;
+
+    /** Indexed user fields; the key prefixes trigrams so each field has its own postings */
+    public enum Field {
+        NAME('n'), EMAIL('e'), PHONE('p');
+
+        private final char key;
+
+        Field(char key) {
+            this.key = key;
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final Map<String, long[]> postings = new ConcurrentHashMap<>();
+    private final Map<Long, String[]> documents = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    // Writes seen while a build runs, by user id; a null document is a removal. Guarded by writeLock
+    private Map<Long, String[]> writesDuringBuild;
+    private volatile boolean ready;
+    // Catch-up watermarks: rows updated after caughtUpTo or with an id above maxIndexedId are re-read
+    private volatile LocalDateTime caughtUpTo;
+    private volatile long maxIndexedId;
+
+    @Value("${loyalbridge.search.index.max-candidates:1000}")
+    private int maxCandidates;
+
+    @Value("${loyalbridge.search.index.max-users:500000}")
+    private int maxUsers;
+
+    // Re-read window for rows committed after a later catch-up started; should exceed clock skew between writers
+    @Value("${loyalbridge.search.index.catch-up-overlap-ms:10000}")
+    private long catchUpOverlapMs;
+
+    public UserSearchIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Build the index from the users table once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        long started = System.currentTimeMillis();
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        synchronized (writeLock) {
+            ready = false;
+            writesDuringBuild = new HashMap<>();
+        }
+
+        Map<Long, String[]> built = new HashMap<>();
+        try (Stream<Object[]> rows = userRepository.streamSearchFields()) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                if (built.size() >= maxUsers) {
+                    disable("more than " + maxUsers + " users");
+                    return;
+                }
+                built.put((Long) row[0], document((String) row[1], (String) row[2], (String) row[3]));
+            }
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                writesDuringBuild = null;
+            }
+            throw e;
+        }
+        Map<String, long[]> builtPostings = postingsOf(built);
+
+        synchronized (writeLock) {
+            documents.clear();
+            documents.putAll(built);
+            postings.clear();
+            postings.putAll(builtPostings);
+
+            Map<Long, String[]> writes = writesDuringBuild;
+            writesDuringBuild = null;
+            writes.forEach((id, document) -> {
+                if (document == null) {
+                    removeDocument(id);
+                } else {
+                    putDocument(id, document);
+                }
+            });
+            if (documents.size() > maxUsers) {
+                disable("more than " + maxUsers + " users");
+                return;
+            }
+            maxIndexedId = documents.keySet().stream().mapToLong(Long::longValue).max().orElse(0);
+            caughtUpTo = snapshotAt;
+            ready = true;
+        }
+
+        logger.info("User search index built: {} users, {} trigrams in {} ms",
+                   built.size(), builtPostings.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Apply users added or edited outside this node since the last catch-up
+     */
+    @Scheduled(fixedDelayString = "${loyalbridge.search.index.catch-up-ms:30000}",
+               initialDelayString = "${loyalbridge.search.index.catch-up-ms:30000}")
+    @Transactional(readOnly = true)
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = caughtUpTo.minusNanos(catchUpOverlapMs * 1_000_000);
+
+        int applied = 0;
+        try (Stream<Object[]> rows = userRepository.streamSearchFieldsChangedSince(since, maxIndexedId)) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                put((Long) row[0], document((String) row[1], (String) row[2], (String) row[3]));
+                if (!ready) {
+                    return;
+                }
+                applied++;
+            }
+        }
+        caughtUpTo = started;
+
+        if (applied > 0) {
+            logger.debug("User search index re-read {} recently changed users", applied);
+        }
+    }
+
+    /**
+     * Add or replace a user in the index
+     */
+    public void put(User user) {
+        put(user.getId(), document(user.getName(), user.getEmail(), user.getPhoneNumber()));
+    }
+
+    private void put(Long id, String[] document) {
+        synchronized (writeLock) {
+            if (writesDuringBuild != null) {
+                writesDuringBuild.put(id, document);
+            } else if (ready) {
+                if (documents.size() >= maxUsers && !documents.containsKey(id)) {
+                    disable("more than " + maxUsers + " users");
+                    return;
+                }
+                putDocument(id, document);
+            }
+        }
+    }
+
+    /**
+     * Remove a user from the index
+     */
+    public void remove(Long userId) {
+        synchronized (writeLock) {
+            if (writesDuringBuild != null) {
+                writesDuringBuild.put(userId, null);
+            } else if (ready) {
+                removeDocument(userId);
+            }
+        }
+    }
+
+    /**
+     * Resolve candidate user ids for the supplied substring filters
+     *
+     * @return the ids of all users whose fields contain every supplied term, or
+     *         empty when the index cannot narrow the search and the database must scan
+     */
+    public Optional<Set<Long>> findCandidates(String name, String email, String phone) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        Set<Long> result = null;
+        for (Field field : Field.values()) {
+            String term = switch (field) {
+                case NAME -> name;
+                case EMAIL -> email;
+                case PHONE -> phone;
+            };
+            if (term == null || term.isBlank()) {
+                continue;
+            }
+
+            Set<Long> matches = search(field, term.toLowerCase());
+            if (matches == null) {
+                continue;
+            }
+            if (result == null) {
+                result = matches;
+            } else {
+                result.retainAll(matches);
+            }
+            if (result.isEmpty()) {
+                return Optional.of(Collections.emptySet());
+            }
+        }
+
+        if (result == null || result.size() > maxCandidates) {
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Ids of users whose field contains the term, or null if the term is too short to use the index
+     */
+    private Set<Long> search(Field field, String term) {
+        if (term.length() < GRAM) {
+            return null;
+        }
+
+        // Intersect starting from the smallest posting list
+        List<long[]> lists = new ArrayList<>();
+        for (String gram : trigrams(field, term)) {
+            long[] posting = postings.get(gram);
+            if (posting == null) {
+                return new HashSet<>();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(ids -> ids.length));
+
+        Set<Long> result = new HashSet<>();
+        for (long id : lists.get(0)) {
+            if (containsInAll(lists, id) && matches(id, field, term)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private boolean containsInAll(List<long[]> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (Arrays.binarySearch(lists.get(i), id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Confirm a trigram hit really contains the term (trigrams can match out of order)
+     */
+    private boolean matches(Long id, Field field, String term) {
+        String[] document = documents.get(id);
+        return document != null && document[field.ordinal()] != null && document[field.ordinal()].contains(term);
+    }
+
+    /**
+     * Sorted posting arrays for a complete set of documents, sized exactly
+     */
+    private static Map<String, long[]> postingsOf(Map<Long, String[]> documents) {
+        long[] ids = documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+
+        Map<String, Integer> sizes = new HashMap<>();
+        for (long id : ids) {
+            for (String gram : trigrams(documents.get(id))) {
+                sizes.merge(gram, 1, Integer::sum);
+            }
+        }
+
+        // Filling in id order keeps every array sorted
+        Map<String, long[]> built = new HashMap<>(sizes.size() * 4 / 3 + 1);
+        Map<String, Integer> filled = new HashMap<>(sizes.size() * 4 / 3 + 1);
+        for (long id : ids) {
+            for (String gram : trigrams(documents.get(id))) {
+                long[] posting = built.computeIfAbsent(gram, k -> new long[sizes.get(k)]);
+                posting[filled.merge(gram, 1, Integer::sum) - 1] = id;
+            }
+        }
+        return built;
+    }
+
+    // Callers hold writeLock
+    private void putDocument(Long id, String[] document) {
+        if (id > maxIndexedId) {
+            maxIndexedId = id;
+        }
+        if (Arrays.equals(documents.get(id), document)) {
+            return;
+        }
+        String[] previous = documents.put(id, document);
+        if (previous != null) {
+            for (String gram : trigrams(previous)) {
+                postings.computeIfPresent(gram, (k, ids) -> without(ids, id));
+            }
+        }
+        for (String gram : trigrams(document)) {
+            postings.merge(gram, new long[] {id}, (ids, single) -> with(ids, id));
+        }
+    }
+
+    // Callers hold writeLock
+    private void removeDocument(Long id) {
+        String[] previous = documents.remove(id);
+        if (previous != null) {
+            for (String gram : trigrams(previous)) {
+                postings.computeIfPresent(gram, (k, ids) -> without(ids, id));
+            }
+        }
+    }
+
+    /**
+     * Drop the index so every search falls back to the database
+     */
+    private void disable(String reason) {
+        synchronized (writeLock) {
+            ready = false;
+            writesDuringBuild = null;
+            documents.clear();
+            postings.clear();
+        }
+        logger.warn("User search index disabled ({}); searches fall back to the database", reason);
+    }
+
+    private static long[] with(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return ids;
+        }
+        position = -position - 1;
+        long[] copy = new long[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, position);
+        copy[position] = id;
+        System.arraycopy(ids, position, copy, position + 1, ids.length - position);
+        return copy;
+    }
+
+    private static long[] without(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] copy = new long[ids.length - 1];
+        System.arraycopy(ids, 0, copy, 0, position);
+        System.arraycopy(ids, position + 1, copy, position, ids.length - position - 1);
+        return copy;
+    }
+
+    private static String[] document(String name, String email, String phone) {
+        return new String[] {lower(name), lower(email), lower(phone)};
+    }
+
+    private static Set<String> trigrams(String[] document) {
+        Set<String> grams = new HashSet<>();
+        for (Field field : Field.values()) {
+            grams.addAll(trigrams(field, document[field.ordinal()]));
+        }
+        return grams;
+    }
+
+    private static Set<String> trigrams(Field field, String value) {
+        if (value == null || value.length() < GRAM) {
+            return Collections.emptySet();
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(field.key + value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.toLowerCase() : null;
+    }
+}
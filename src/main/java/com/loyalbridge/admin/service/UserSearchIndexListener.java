@@ -0,0 +1,53 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener keeping the user search index in step with user writes
+ *
+ * Index updates are deferred until the surrounding transaction commits so a
+ * rolled-back write never reaches the index
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+public class UserSearchIndexListener {
+
+    // Resolved lazily: the listener is created while the EntityManagerFactory is still being built
+    private final ObjectProvider<UserSearchIndex> userSearchIndex;
+
+    public UserSearchIndexListener(ObjectProvider<UserSearchIndex> userSearchIndex) {
+        this.userSearchIndex = userSearchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(User user) {
+        afterCommit(() -> userSearchIndex.getObject().put(user));
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        Long userId = user.getId();
+        afterCommit(() -> userSearchIndex.getObject().remove(userId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
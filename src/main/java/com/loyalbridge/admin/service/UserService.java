@@ -1,21 +1,41 @@
 package com.loyalbridge.admin.service;
 
+import com.loyalbridge.admin.config.CacheNames;
 import com.loyalbridge.admin.dto.*;
 import com.loyalbridge.admin.model.*;
 import com.loyalbridge.admin.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
-import java.io.PrintWriter;
-import java.math.BigDecimal;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Service for user management operations
@@ -29,16 +49,37 @@ public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
+    private static final String USER_CSV_HEADER =
+        "ID,Name,Email,Phone,Status,Total Points,Lifetime Earnings,Lifetime Redemptions,High Risk,Verified,Last Activity,Created At";
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
+    /** Non-null properties usable as keyset sort keys, with parsers for their cursor values */
+    private static final Map<String, Function<String, ?>> USER_SORT_KEYS = Map.of(
+        "createdAt", LocalDateTime::parse,
+        "name", Function.identity(),
+        "email", Function.identity(),
+        "id", Long::valueOf
+    );
+
     private final UserRepository userRepository;
     private final PointsHistoryRepository pointsHistoryRepository;
-    private final PartnerRepository partnerRepository;
+    private final EntityManager entityManager;
+    private final UserSearchIndex userSearchIndex;
+    private final UserStatsCounterService userStatsCounterService;
+    private final SingleFlight singleFlight;
 
     public UserService(UserRepository userRepository,
                       PointsHistoryRepository pointsHistoryRepository,
-                      PartnerRepository partnerRepository) {
+                      EntityManager entityManager,
+                      UserSearchIndex userSearchIndex,
+                      UserStatsCounterService userStatsCounterService,
+                      SingleFlight singleFlight) {
         this.userRepository = userRepository;
         this.pointsHistoryRepository = pointsHistoryRepository;
-        this.partnerRepository = partnerRepository;
+        this.entityManager = entityManager;
+        this.userSearchIndex = userSearchIndex;
+        this.userStatsCounterService = userStatsCounterService;
+        this.singleFlight = singleFlight;
     }
 
     /**
@@ -56,14 +97,34 @@ public class UserService {
             }
         }
         
-        return userRepository.findUsersWithCriteria(
-            criteria.getName(),
-            criteria.getPhone(),
-            status,
-            criteria.getIsHighRisk(),
-            criteria.getIsVerified(),
-            pageable
-        ).map(this::convertToUserResponse);
+        return userRepository.findAll(searchSpecification(criteria, status), pageable)
+            .map(this::convertToUserResponse);
+    }
+
+    /**
+     * Get users matching the criteria using keyset pagination (no count query)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> scrollUsers(UserSearchCriteria criteria, String after, int size,
+                                                String sortBy, Sort.Direction direction) {
+        logger.debug("Scrolling users with criteria: {}, after: {}", criteria, after);
+
+        UserStatus status = null;
+        if (criteria.getStatus() != null && !criteria.getStatus().trim().isEmpty()) {
+            try {
+                status = UserStatus.valueOf(criteria.getStatus().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Invalid status provided: {}", criteria.getStatus());
+            }
+        }
+
+        Sort sort = KeysetCursor.sort(sortBy, direction, USER_SORT_KEYS);
+        KeysetScrollPosition position = KeysetCursor.decode(after, sortBy, direction, USER_SORT_KEYS);
+
+        Window<User> window = userRepository.findBy(searchSpecification(criteria, status),
+            query -> query.sortBy(sort).limit(size).scroll(position));
+
+        return KeysetCursor.toPage(window, this::convertToUserResponse, sortBy, direction);
     }
 
     /**
@@ -89,13 +150,13 @@ public class UserService {
             throw new RuntimeException("User not found with ID: " + userId);
         }
         
-        return pointsHistoryRepository.findByUserId(userId, pageable)
-            .map(this::convertToPointsHistoryResponse);
+        return pointsHistoryRepository.findHistoryResponsesByUserId(userId, pageable);
     }
 
     /**
      * Update user status
      */
+    @CacheEvict(cacheNames = CacheNames.USER_STATS, allEntries = true)
     public UserResponse updateUserStatus(Long id, UpdateUserStatusRequest request) {
         logger.info("Updating status for user {} to {}", id, request.getStatus());
         
@@ -107,6 +168,7 @@ public class UserService {
         
         user.setStatus(newStatus);
         user = userRepository.save(user);
+        userStatsCounterService.recordStatusChange(oldStatus, newStatus);
         
         // Log the status change
         logger.info("User {} status changed from {} to {} by admin. Reason: {}", 
@@ -121,6 +183,7 @@ public class UserService {
     /**
      * Update user risk flag
      */
+    @CacheEvict(cacheNames = CacheNames.USER_STATS, allEntries = true)
     public UserResponse updateUserRiskFlag(Long id, UpdateRiskFlagRequest request) {
         logger.info("Updating risk flag for user {} to {}", id, request.getIsHighRisk());
         
@@ -130,6 +193,7 @@ public class UserService {
         Boolean oldRiskFlag = user.getIsHighRisk();
         user.setIsHighRisk(request.getIsHighRisk());
         user = userRepository.save(user);
+        userStatsCounterService.recordRiskFlagChange(oldRiskFlag, user.getIsHighRisk());
         
         logger.info("User {} risk flag changed from {} to {} by admin. Reason: {}", 
                    id, oldRiskFlag, request.getIsHighRisk(), request.getReason());
@@ -140,6 +204,7 @@ public class UserService {
     /**
      * Update user verification status
      */
+    @CacheEvict(cacheNames = CacheNames.USER_STATS, allEntries = true)
     public UserResponse updateUserVerification(Long id, UpdateVerificationRequest request) {
         logger.info("Updating verification for user {} to {}", id, request.getIsVerified());
         
@@ -149,6 +214,7 @@ public class UserService {
         Boolean oldVerification = user.getIsVerified();
         user.setIsVerified(request.getIsVerified());
         user = userRepository.save(user);
+        userStatsCounterService.recordVerificationChange(oldVerification, user.getIsVerified());
         
         logger.info("User {} verification changed from {} to {} by admin. Notes: {}", 
                    id, oldVerification, request.getIsVerified(), request.getNotes());
@@ -157,9 +223,23 @@ public class UserService {
     }
 
     /**
-     * Export users to CSV
+     * Write users matching the criteria as CSV to the given stream
+     */
+    @Transactional(readOnly = true)
+    public long writeUsersCsv(UserSearchCriteria criteria, OutputStream outputStream) throws IOException {
+        return writeUsersCsv(criteria, outputStream, Long.MAX_VALUE, ExportProgress.NONE);
+    }
+
+    /**
+     * Write at most maxRecords users matching the criteria as CSV to the given stream
+     *
+     * Rows are read through a forward-only cursor and the persistence context is
+     * cleared periodically, so memory stays flat regardless of export size.
+     * Substring filters are narrowed through the search index as for listing.
      */
-    public byte[] exportUsersToCSV(UserSearchCriteria criteria) {
+    @Transactional(readOnly = true)
+    public long writeUsersCsv(UserSearchCriteria criteria, OutputStream outputStream,
+                              long maxRecords, ExportProgress progress) throws IOException {
         logger.info("Exporting users to CSV with criteria: {}", criteria);
         
         UserStatus status = null;
@@ -171,41 +251,95 @@ public class UserService {
             }
         }
         
-        List<User> users = userRepository.findUsersForExport(
-            criteria.getName(),
-            criteria.getPhone(),
-            status,
-            criteria.getIsHighRisk(),
-            criteria.getIsVerified()
-        );
-        
-        return generateCSV(users);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        CsvWriter csv = new CsvWriter(writer);
+        csv.header(USER_CSV_HEADER);
+
+        long rows = 0;
+        try (Stream<User> users = streamUsers(searchSpecification(criteria, status))) {
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                if (rows >= maxRecords) {
+                    progress.truncated();
+                    break;
+                }
+                writeUserRow(csv, iterator.next());
+                if (++rows % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    progress.rowsWritten(rows);
+                }
+            }
+        }
+
+        csv.flush();
+        progress.rowsWritten(rows);
+        logger.info("Exported {} users to CSV", rows);
+        return rows;
     }
 
     /**
      * Get user statistics
      */
+    @Cacheable(CacheNames.USER_STATS)
     public UserStatsResponse getUserStats() {
+        return computeUserStats();
+    }
+
+    /**
+     * Compute user statistics, bypassing the cache (used to refresh it)
+     *
+     * Concurrent callers share one in-flight computation.
+     */
+    public UserStatsResponse computeUserStats() {
+        return singleFlight.execute("userStats", this::summarizeUsers);
+    }
+
+    private UserStatsResponse summarizeUsers() {
         logger.debug("Getting user statistics");
         
-        UserStatsResponse stats = new UserStatsResponse();
-        
-        stats.setTotalUsers(userRepository.count());
-        stats.setActiveUsers(userRepository.countByStatus(UserStatus.ACTIVE));
-        stats.setFrozenUsers(userRepository.countByStatus(UserStatus.FROZEN));
-        stats.setSuspendedUsers(userRepository.countByStatus(UserStatus.SUSPENDED));
-        stats.setInactiveUsers(userRepository.countByStatus(UserStatus.INACTIVE));
-        stats.setVerifiedUsers(userRepository.countByIsVerified(true));
-        stats.setHighRiskUsers(userRepository.countByIsHighRisk(true));
-        
-        stats.setTotalPointsInSystem(userRepository.sumTotalPoints() != null ? 
-            userRepository.sumTotalPoints() : BigDecimal.ZERO);
-        stats.setTotalLifetimeEarnings(userRepository.sumLifetimeEarnings() != null ? 
-            userRepository.sumLifetimeEarnings() : BigDecimal.ZERO);
-        stats.setTotalLifetimeRedemptions(userRepository.sumLifetimeRedemptions() != null ? 
-            userRepository.sumLifetimeRedemptions() : BigDecimal.ZERO);
-        
-        return stats;
+        if (userStatsCounterService.isEnabled()) {
+            return userStatsCounterService.readStats();
+        }
+        return userRepository.summarizeStats();
+    }
+
+    /**
+     * Build the search specification, narrowing substring filters to candidates from the search index
+     *
+     * The index can lag writes made outside this node, so finding no candidates
+     * is not taken as proof that no user matches: the database is searched instead.
+     */
+    private Specification<User> searchSpecification(UserSearchCriteria criteria, UserStatus status) {
+        Specification<User> spec = UserSpecifications.matching(
+            criteria.getName(),
+            criteria.getEmail(),
+            criteria.getPhone(),
+            status,
+            criteria.getIsHighRisk(),
+            criteria.getIsVerified());
+
+        Optional<Set<Long>> candidates = userSearchIndex.findCandidates(
+            criteria.getName(), criteria.getEmail(), criteria.getPhone());
+        if (candidates.isEmpty() || candidates.get().isEmpty()) {
+            return spec;
+        }
+        return spec.and(UserSpecifications.idIn(candidates.get()));
+    }
+
+    /**
+     * Stream users matching the specification in id order, fetched in batches as read-only entities
+     */
+    private Stream<User> streamUsers(Specification<User> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<User> root = query.from(User.class);
+        query.where(spec.toPredicate(root, query, cb)).orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, 500)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setHint(HibernateHints.HINT_CACHEABLE, false)
+            .getResultStream();
     }
 
     /**
@@ -258,28 +392,6 @@ public class UserService {
         return response;
     }
 
-    /**
-     * Convert PointsHistory entity to PointsHistoryResponse DTO
-     */
-    private PointsHistoryResponse convertToPointsHistoryResponse(PointsHistory history) {
-        PointsHistoryResponse response = new PointsHistoryResponse();
-        response.setId(history.getId());
-        response.setType(history.getTransactionType().name());
-        response.setAmount(history.getAmount());
-        response.setBalanceAfter(history.getBalanceAfter());
-        response.setDescription(history.getDescription());
-        response.setReferenceId(history.getReferenceId());
-        response.setCreatedAt(history.getCreatedAt());
-        
-        // Get partner name if available
-        if (history.getPartnerId() != null) {
-            partnerRepository.findById(history.getPartnerId())
-                .ifPresent(partner -> response.setPartnerName(partner.getName()));
-        }
-        
-        return response;
-    }
-
     /**
      * Get total transactions count for user
      */
@@ -301,51 +413,21 @@ public class UserService {
     }
 
     /**
-     * Generate CSV from user list
+     * Write one user as a CSV row
      */
-    private byte[] generateCSV(List<User> users) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             PrintWriter writer = new PrintWriter(baos)) {
-            
-            // CSV Header
-            writer.println("ID,Name,Email,Phone,Status,Total Points,Lifetime Earnings,Lifetime Redemptions,High Risk,Verified,Last Activity,Created At");
-            
-            // CSV Data
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            for (User user : users) {
-                writer.printf("%d,%s,%s,%s,%s,%.2f,%.2f,%.2f,%s,%s,%s,%s%n",
-                    user.getId(),
-                    escapeCSV(user.getName()),
-                    escapeCSV(user.getEmail()),
-                    escapeCSV(user.getPhoneNumber()),
-                    user.getStatus().name(),
-                    user.getTotalPoints(),
-                    user.getLifetimeEarnings(),
-                    user.getLifetimeRedemptions(),
-                    user.getIsHighRisk(),
-                    user.getIsVerified(),
-                    user.getLastActivity() != null ? user.getLastActivity().format(formatter) : "",
-                    user.getCreatedAt().format(formatter)
-                );
-            }
-            
-            writer.flush();
-            return baos.toByteArray();
-            
-        } catch (Exception e) {
-            logger.error("Error generating CSV: {}", e.getMessage());
-            throw new RuntimeException("Failed to generate CSV export", e);
-        }
-    }
-
-    /**
-     * Escape CSV special characters
-     */
-    private String escapeCSV(String value) {
-        if (value == null) return "";
-        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-            return "\"" + value.replace("\"", "\"\"") + "\"";
-        }
-        return value;
+    private void writeUserRow(CsvWriter csv, User user) throws IOException {
+        csv.field(user.getId())
+           .field(user.getName())
+           .field(user.getEmail())
+           .field(user.getPhoneNumber())
+           .field(user.getStatus())
+           .field(user.getTotalPoints())
+           .field(user.getLifetimeEarnings())
+           .field(user.getLifetimeRedemptions())
+           .field(user.getIsHighRisk())
+           .field(user.getIsVerified())
+           .field(user.getLastActivity())
+           .field(user.getCreatedAt())
+           .endRow();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.dto.UserStatsResponse;
+import com.loyalbridge.admin.model.UserStatsCounters;
+import com.loyalbridge.admin.model.UserStatus;
+import com.loyalbridge.admin.repository.UserRepository;
+import com.loyalbridge.admin.repository.UserStatsCountersRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Service maintaining the user_stats_counters row (optional counters mode)
+ *
+ * When enabled, user status, risk and verification changes adjust the row in
+ * the caller's transaction and statistics are read from it in O(1). Writes
+ * that bypass UserService (bulk loads, sample data) are picked up by a rebuild
+ * from the users table, run on startup and on a reconcile interval.
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class UserStatsCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatsCounterService.class);
+
+    private final UserStatsCountersRepository countersRepository;
+    private final UserRepository userRepository;
+
+    @Value("${loyalbridge.users.stats.counters-enabled:false}")
+    private boolean enabled;
+
+    public UserStatsCounterService(UserStatsCountersRepository countersRepository,
+                                   UserRepository userRepository) {
+        this.countersRepository = countersRepository;
+        this.userRepository = userRepository;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Statistics from the counters row, rebuilding it first if it does not exist yet
+     */
+    public UserStatsResponse readStats() {
+        Optional<UserStatsCounters> counters = countersRepository.findById(UserStatsCounters.SINGLETON_ID);
+        return toResponse(counters.orElseGet(this::rebuild));
+    }
+
+    /**
+     * Move a user from its old status count to its new one
+     */
+    public void recordStatusChange(UserStatus oldStatus, UserStatus newStatus) {
+        if (!enabled || oldStatus == newStatus) {
+            return;
+        }
+        long[] delta = new long[UserStatus.values().length];
+        if (oldStatus != null) {
+            delta[oldStatus.ordinal()]--;
+        }
+        if (newStatus != null) {
+            delta[newStatus.ordinal()]++;
+        }
+        applyDelta(delta[UserStatus.ACTIVE.ordinal()], delta[UserStatus.FROZEN.ordinal()],
+                   delta[UserStatus.SUSPENDED.ordinal()], delta[UserStatus.INACTIVE.ordinal()], 0, 0);
+    }
+
+    /**
+     * Adjust the high-risk count when a user's risk flag changes
+     */
+    public void recordRiskFlagChange(Boolean oldHighRisk, Boolean newHighRisk) {
+        if (enabled && isSet(oldHighRisk) != isSet(newHighRisk)) {
+            applyDelta(0, 0, 0, 0, 0, isSet(newHighRisk) ? 1 : -1);
+        }
+    }
+
+    /**
+     * Adjust the verified count when a user's verification changes
+     */
+    public void recordVerificationChange(Boolean oldVerified, Boolean newVerified) {
+        if (enabled && isSet(oldVerified) != isSet(newVerified)) {
+            applyDelta(0, 0, 0, 0, isSet(newVerified) ? 1 : -1, 0);
+        }
+    }
+
+    /**
+     * Recompute the counters row from the users table
+     *
+     * The row is locked before aggregating, so deltas from concurrent changes
+     * either committed before the aggregate (and are counted in it) or are
+     * applied on top of the rebuilt row.
+     */
+    public UserStatsCounters rebuild() {
+        UserStatsCounters counters = countersRepository.findForUpdate(UserStatsCounters.SINGLETON_ID)
+            .orElseGet(UserStatsCounters::new);
+        UserStatsResponse stats = userRepository.summarizeStats();
+
+        counters.setTotalUsers(stats.getTotalUsers());
+        counters.setActiveUsers(stats.getActiveUsers());
+        counters.setFrozenUsers(stats.getFrozenUsers());
+        counters.setSuspendedUsers(stats.getSuspendedUsers());
+        counters.setInactiveUsers(stats.getInactiveUsers());
+        counters.setVerifiedUsers(stats.getVerifiedUsers());
+        counters.setHighRiskUsers(stats.getHighRiskUsers());
+        counters.setTotalPoints(stats.getTotalPointsInSystem());
+        counters.setLifetimeEarnings(stats.getTotalLifetimeEarnings());
+        counters.setLifetimeRedemptions(stats.getTotalLifetimeRedemptions());
+        counters.setRebuiltAt(LocalDateTime.now());
+
+        logger.debug("User stats counters rebuilt: {} users", counters.getTotalUsers());
+        return countersRepository.save(counters);
+    }
+
+    /**
+     * Resync the counters with writes that bypassed UserService
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${loyalbridge.users.stats.counters-reconcile-ms:3600000}",
+               initialDelayString = "${loyalbridge.users.stats.counters-reconcile-ms:3600000}")
+    public void reconcile() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    private void applyDelta(long active, long frozen, long suspended, long inactive, long verified, long highRisk) {
+        if (countersRepository.applyDelta(UserStatsCounters.SINGLETON_ID,
+                                          active, frozen, suspended, inactive, verified, highRisk) == 0) {
+            // Built from the users table on first read, which already includes this change
+            logger.debug("User stats counters row missing; it will be built on next read");
+        }
+    }
+
+    private static boolean isSet(Boolean flag) {
+        return Boolean.TRUE.equals(flag);
+    }
+
+    private static UserStatsResponse toResponse(UserStatsCounters counters) {
+        return new UserStatsResponse(
+            counters.getTotalUsers(),
+            counters.getActiveUsers(),
+            counters.getFrozenUsers(),
+            counters.getSuspendedUsers(),
+            counters.getInactiveUsers(),
+            counters.getVerifiedUsers(),
+            counters.getHighRiskUsers(),
+            counters.getTotalPoints(),
+            counters.getLifetimeEarnings(),
+            counters.getLifetimeRedemptions());
+    }
+}
@@ -0,0 +1,133 @@
+package com.loyalbridge.admin.benchmark;
+
+import com.loyalbridge.admin.config.JwtAuthenticationFilter;
+import com.loyalbridge.admin.model.Admin;
+import com.loyalbridge.admin.model.AdminRole;
+import com.loyalbridge.admin.repository.AdminRepository;
+import com.loyalbridge.admin.service.AdminTokenVersions;
+import com.loyalbridge.admin.service.AdminUserDetailsService;
+import com.loyalbridge.admin.service.JwtKeyRing;
+import com.loyalbridge.admin.service.JwtService;
+import com.loyalbridge.admin.service.TokenRevocationStore;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Throughput of JWT request authentication before and after the stateless fast path
+ *
+ * {@code legacyPerRequestLookup} replays the previous filter: three signature
+ * verifications with the HMAC key rebuilt each time plus a user details load.
+ * The repository is stubbed, so the legacy figure excludes the database round
+ * trip it paid in production and is a lower bound on its cost.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="JwtAuthenticationFilterBenchmark -f 1"
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+    private AdminUserDetailsService userDetailsService;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        Admin admin = new Admin("bench@loyalbridge.io", "{noop}password", AdminRole.SUPER_ADMIN);
+        admin.setId(1L);
+
+        AdminRepository adminRepository = mock(AdminRepository.class);
+        when(adminRepository.findByEmail(admin.getEmail())).thenReturn(Optional.of(admin));
+        when(adminRepository.findActiveTokenVersion(admin.getId())).thenReturn(Optional.of(admin.getTokenVersion()));
+
+        // HS256 like the legacy path, so the comparison isolates the filter work
+        JwtService jwtService = JwtFixtures.jwtService(JwtKeyRing.Algorithm.HS256);
+
+        AdminTokenVersions adminTokenVersions = new AdminTokenVersions(adminRepository);
+        ReflectionTestUtils.setField(adminTokenVersions, "ttlMs", 30_000L);
+
+        TokenRevocationStore tokenRevocationStore = new TokenRevocationStore(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tokenRevocationStore, "expectedEntries", 10_000);
+        ReflectionTestUtils.setField(tokenRevocationStore, "falsePositiveProbability", 0.01);
+        ReflectionTestUtils.invokeMethod(tokenRevocationStore, "init");
+
+        filter = new JwtAuthenticationFilter(jwtService, adminTokenVersions, tokenRevocationStore);
+        // No-op cache manager disables the details cache to replay the per-request lookup
+        userDetailsService = new AdminUserDetailsService(adminRepository, new NoOpCacheManager());
+
+        token = jwtService.generateToken(
+            Map.of("role", admin.getRole().name(), "adminId", admin.getId(), "ver", admin.getTokenVersion()), admin);
+
+        request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication statelessFilter() throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Authentication legacyPerRequestLookup() {
+        SecurityContextHolder.clearContext();
+        String jwt = request.getHeader("Authorization").substring(7);
+
+        String email = legacyClaims(jwt).getSubject();
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+
+        boolean valid = legacyClaims(jwt).getSubject().equals(userDetails.getUsername())
+                && !legacyClaims(jwt).getExpiration().before(new Date());
+        if (!valid) {
+            return null;
+        }
+
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+            userDetails, null, userDetails.getAuthorities());
+        authToken.setDetails(detailsSource.buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        return authToken;
+    }
+
+    /**
+     * Previous parsing: key and parser rebuilt for every claim extraction
+     */
+    private static Claims legacyClaims(String jwt) {
+        SecretKey key = Keys.hmacShaKeyFor(JwtFixtures.SECRET.getBytes());
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(jwt).getPayload();
+    }
+}
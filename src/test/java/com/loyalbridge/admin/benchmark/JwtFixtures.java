@@ -0,0 +1,63 @@
+package com.loyalbridge.admin.benchmark;
+
+import com.loyalbridge.admin.model.JwtSigningKey;
+import com.loyalbridge.admin.repository.JwtSigningKeyRepository;
+import com.loyalbridge.admin.service.JwtKeyRing;
+import com.loyalbridge.admin.service.JwtService;
+import com.loyalbridge.admin.service.SigningKeyCipher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtService wired outside Spring with an in-memory key ring
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+final class JwtFixtures {
+
+    static final String SECRET =
+        "MyVeryLongAndSecureSecretKeyForLoyalBridgeAdminPanelThatIsAtLeast256BitsLong2024!@#$";
+
+    static final String KEY_ENCRYPTION_KEY = "iaJ64uu/UG9hYoSapBUXWDk0G8NghMw7jW7WoKmwSrQ=";
+
+    private JwtFixtures() {}
+
+    static JwtService jwtService(JwtKeyRing.Algorithm algorithm) {
+        List<JwtSigningKey> keys = new ArrayList<>();
+        JwtSigningKeyRepository repository = mock(JwtSigningKeyRepository.class);
+        when(repository.findAllByOrderByCreatedAtDesc()).thenAnswer(invocation -> List.copyOf(keys));
+        when(repository.save(any(JwtSigningKey.class))).thenAnswer(invocation -> {
+            keys.add(0, invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        SigningKeyCipher signingKeyCipher = new SigningKeyCipher();
+        ReflectionTestUtils.setField(signingKeyCipher, "encodedKeyEncryptionKey", KEY_ENCRYPTION_KEY);
+        ReflectionTestUtils.invokeMethod(signingKeyCipher, "init");
+
+        JwtKeyRing keyRing = new JwtKeyRing(repository, signingKeyCipher, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(keyRing, "algorithm", algorithm);
+        ReflectionTestUtils.setField(keyRing, "rotationIntervalMs", 86_400_000L);
+        ReflectionTestUtils.setField(keyRing, "keyRefreshMs", 60_000L);
+        ReflectionTestUtils.setField(keyRing, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(keyRing, "refreshExpiration", 86_400_000L);
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+
+        JwtService jwtService = new JwtService(keyRing);
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "legacyHmac", true);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheSize", 10_000);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        return jwtService;
+    }
+}
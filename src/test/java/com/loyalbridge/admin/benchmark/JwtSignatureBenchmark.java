@@ -0,0 +1,66 @@
+package com.loyalbridge.admin.benchmark;
+
+import com.loyalbridge.admin.model.Admin;
+import com.loyalbridge.admin.model.AdminRole;
+import com.loyalbridge.admin.service.AdminPrincipal;
+import com.loyalbridge.admin.service.JwtKeyRing;
+import com.loyalbridge.admin.service.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Access token sign and verify throughput per signing algorithm
+ *
+ * All operations go through JwtService. {@code verify} checks the signature
+ * on every call, including the kid lookup in the key ring; {@code verifyCached}
+ * is the request path, where a token already verified on the node is reused.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="JwtSignatureBenchmark -f 1"
+ *
+ * @author LoyalBridge Development Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtSignatureBenchmark {
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    private JwtKeyRing.Algorithm algorithm;
+
+    private JwtService jwtService;
+    private Admin admin;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        admin = new Admin("bench@loyalbridge.io", "{noop}password", AdminRole.SUPER_ADMIN);
+        admin.setId(1L);
+        claims = Map.of("role", admin.getRole().name(), "adminId", admin.getId(), "ver", admin.getTokenVersion());
+
+        jwtService = JwtFixtures.jwtService(algorithm);
+        token = jwtService.generateToken(claims, admin);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtService.generateToken(claims, admin);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return jwtService.extractClaim(token, Function.identity());
+    }
+
+    @Benchmark
+    public AdminPrincipal verifyCached() {
+        return jwtService.parseAccessToken(token);
+    }
+}
@@ -0,0 +1,43 @@
+package com.loyalbridge.admin.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that stored hashes at any other cost are re-encoded at the configured one
+ */
+class AdaptiveBCryptPasswordEncoderTest {
+
+    private final AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+
+    @Test
+    void weakerHashIsUpgraded() {
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+    }
+
+    @Test
+    void strongerHashIsReencodedSoLoweringTheCostTakesEffect() {
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret"))).isTrue();
+    }
+
+    @Test
+    void hashAtTheConfiguredCostIsKept() {
+        assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+    }
+
+    @Test
+    void strongerHashStillMatches() {
+        String stored = new BCryptPasswordEncoder(6).encode("secret");
+
+        assertThat(encoder.matches("secret", stored)).isTrue();
+        assertThat(encoder.matches("wrong", stored)).isFalse();
+    }
+
+    @Test
+    void nonBcryptValuesAreNotUpgraded() {
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+        assertThat(encoder.upgradeEncoding("{noop}secret")).isFalse();
+    }
+}
@@ -0,0 +1,194 @@
+package com.loyalbridge.admin.repository;
+
+import com.loyalbridge.admin.model.AuthMethod;
+import com.loyalbridge.admin.model.ConversionStatus;
+import com.loyalbridge.admin.model.TransactionType;
+import com.loyalbridge.admin.model.UserStatus;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that search Specifications only render predicates for supplied filters
+ *
+ * Every combination of filters is executed and the SQL Hibernate sends to the
+ * database is checked: supplied filters must appear in the WHERE clause, omitted
+ * ones must not, and no catch-all "IS NULL" branch may be generated.
+ */
+@DataJpaTest
+class SearchSpecificationSqlTest {
+
+    private static final Pattern WHERE_END = Pattern.compile(" (order by|offset|fetch|limit) ");
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private ConversionLogRepository conversionLogRepository;
+
+    @BeforeEach
+    void clearCapturedSql() {
+        sqlCapture.clear();
+    }
+
+    static IntStream userFilterCombinations() {
+        return IntStream.range(0, 1 << 6);
+    }
+
+    static IntStream partnerFilterCombinations() {
+        return IntStream.range(0, 1 << 3);
+    }
+
+    static IntStream conversionFilterCombinations() {
+        return IntStream.range(0, 1 << 6);
+    }
+
+    @ParameterizedTest(name = "user filters mask {0}")
+    @MethodSource("userFilterCombinations")
+    void userSearchRendersOnlySuppliedFilters(int mask) {
+        userRepository.findAll(UserSpecifications.matching(
+                isSet(mask, 0) ? "john" : null,
+                isSet(mask, 1) ? "gmail" : null,
+                isSet(mask, 2) ? "555" : null,
+                isSet(mask, 3) ? UserStatus.ACTIVE : null,
+                isSet(mask, 4) ? Boolean.TRUE : null,
+                isSet(mask, 5) ? Boolean.FALSE : null),
+            PageRequest.of(0, 10, Sort.by("id")));
+
+        assertFilters(sqlCapture.selectsFrom("users"), mask,
+            "lower\\(\\w+\\.name\\) like",
+            "lower\\(\\w+\\.email\\) like",
+            "\\w+\\.phone_number like",
+            "\\w+\\.status=\\?",
+            "\\w+\\.is_high_risk=\\?",
+            "\\w+\\.is_verified=\\?");
+    }
+
+    @ParameterizedTest(name = "partner filters mask {0}")
+    @MethodSource("partnerFilterCombinations")
+    void partnerSearchRendersOnlySuppliedFilters(int mask) {
+        partnerRepository.findAll(PartnerSpecifications.matching(
+                isSet(mask, 0) ? "amazon" : null,
+                isSet(mask, 1) ? AuthMethod.API_KEY : null,
+                isSet(mask, 2) ? Boolean.TRUE : null),
+            PageRequest.of(0, 10, Sort.by("id")));
+
+        assertFilters(sqlCapture.selectsFrom("partners"), mask,
+            "lower\\(\\w+\\.name\\) like",
+            "\\w+\\.auth_method=\\?",
+            "\\w+\\.is_active=\\?");
+    }
+
+    @ParameterizedTest(name = "conversion filters mask {0}")
+    @MethodSource("conversionFilterCombinations")
+    void conversionSearchRendersOnlySuppliedFilters(int mask) {
+        conversionLogRepository.findAll(ConversionLogSpecifications.matching(
+                isSet(mask, 0) ? 1L : null,
+                isSet(mask, 1) ? 2L : null,
+                isSet(mask, 2) ? ConversionStatus.COMPLETED : null,
+                isSet(mask, 3) ? TransactionType.EARN : null,
+                isSet(mask, 4) ? LocalDateTime.now().minusDays(7) : null,
+                isSet(mask, 5) ? LocalDateTime.now() : null),
+            PageRequest.of(0, 10, Sort.by("id")));
+
+        assertFilters(sqlCapture.selectsFrom("conversion_logs"), mask,
+            "\\w+\\.user_id=\\?",
+            "\\w+\\.partner_id=\\?",
+            "\\w+\\.status=\\?",
+            "\\w+\\.transaction_type=\\?",
+            "\\w+\\.created_at>=\\?",
+            "\\w+\\.created_at<=\\?");
+    }
+
+    private void assertFilters(List<String> statements, int mask, String... filterPatterns) {
+        assertThat(statements).as("captured statements").isNotEmpty();
+
+        for (String sql : statements) {
+            String where = whereClause(sql);
+            assertThat(where).as("no catch-all null checks in: %s", sql).doesNotContain("is null");
+
+            for (int i = 0; i < filterPatterns.length; i++) {
+                boolean rendered = Pattern.compile(filterPatterns[i]).matcher(where).find();
+                assertThat(rendered)
+                    .as("filter /%s/ %s in: %s", filterPatterns[i], isSet(mask, i) ? "expected" : "not expected", sql)
+                    .isEqualTo(isSet(mask, i));
+            }
+        }
+    }
+
+    private static String whereClause(String sql) {
+        String normalized = sql.toLowerCase().replaceAll("\\s+", " ").replace(" = ", "=")
+            .replace(" >= ", ">=").replace(" <= ", "<=");
+        int start = normalized.indexOf(" where ");
+        if (start < 0) {
+            return "";
+        }
+        var end = WHERE_END.matcher(normalized);
+        return end.find(start) ? normalized.substring(start, end.start()) : normalized.substring(start);
+    }
+
+    private static boolean isSet(int mask, int bit) {
+        return (mask & (1 << bit)) != 0;
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        List<String> selectsFrom(String table) {
+            return statements.stream()
+                .filter(sql -> sql.toLowerCase().startsWith("select") && sql.toLowerCase().contains(" from " + table + " "))
+                .toList();
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.dto.LoginResponse;
+import com.loyalbridge.admin.model.Admin;
+import com.loyalbridge.admin.model.AdminRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that refresh tokens stop minting access tokens once the admin's token version moves on
+ */
+class AuthServiceTest {
+
+    private static final String EMAIL = "admin@loyalbridge.io";
+
+    private final AdminUserDetailsService adminUserDetailsService = mock(AdminUserDetailsService.class);
+    private final JwtService jwtService = new JwtService(mock(JwtKeyRing.class));
+    private final AuthService authService = new AuthService(adminUserDetailsService, mock(AuthenticationManager.class),
+        jwtService, mock(PasswordEncoder.class), mock(TokenRevocationLog.class), mock(OtpStore.class),
+        mock(LoginThrottle.class), mock(LastLoginRecorder.class));
+
+    private final Admin admin = new Admin(EMAIL, "hash", AdminRole.SUPPORT_STAFF);
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(jwtService, "secretKey",
+            "MyVeryLongAndSecureSecretKeyForLoyalBridgeAdminPanelThatIsAtLeast256BitsLong2024!@#$");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 900_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "legacyHmac", true);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheSize", 100);
+        jwtService.init();
+        ReflectionTestUtils.setField(authService, "jwtExpiration", 900_000L);
+
+        admin.setId(1L);
+        when(adminUserDetailsService.loadAdmin(EMAIL)).thenReturn(admin);
+    }
+
+    @Test
+    void refreshTokenMintsAnAccessTokenAtTheCurrentVersion() {
+        String refreshToken = issueRefreshToken();
+
+        String accessToken = authService.refreshToken(refreshToken).getAccessToken();
+
+        assertThat(jwtService.parseAccessToken(accessToken).getTokenVersion()).isEqualTo(admin.getTokenVersion());
+    }
+
+    @Test
+    void deactivatedAdminCannotRefresh() {
+        String refreshToken = issueRefreshToken();
+
+        admin.setIsActive(false);
+
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken)).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void inactiveAdminCannotRefreshEvenAtTheSameVersion() {
+        String refreshToken = issueRefreshToken();
+
+        long version = admin.getTokenVersion();
+        admin.setIsActive(false);
+        admin.setTokenVersion(version);
+
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken)).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void passwordResetRevokesRefreshTokens() {
+        String refreshToken = issueRefreshToken();
+
+        admin.revokeIssuedTokens();
+
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken)).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void refreshTokenWithoutAVersionIsRejected() {
+        String refreshToken = jwtService.generateRefreshToken(admin);
+
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken)).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void issuedRefreshTokenCarriesTheTokenVersion() {
+        admin.revokeIssuedTokens();
+
+        Long version = jwtService.extractClaim(issueRefreshToken(), claims -> claims.get("ver", Long.class));
+
+        assertThat(version).isEqualTo(admin.getTokenVersion());
+    }
+
+    private String issueRefreshToken() {
+        LoginResponse response = ReflectionTestUtils.invokeMethod(authService, "generateTokenResponse", admin);
+        return response.getRefreshToken();
+    }
+}
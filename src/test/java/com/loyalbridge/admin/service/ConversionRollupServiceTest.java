@@ -0,0 +1,184 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.model.ConversionDailyRollup;
+import com.loyalbridge.admin.model.ConversionDailyRollupId;
+import com.loyalbridge.admin.model.ConversionLog;
+import com.loyalbridge.admin.model.ConversionStatus;
+import com.loyalbridge.admin.model.TransactionType;
+import com.loyalbridge.admin.repository.ConversionDailyRollupRepository;
+import com.loyalbridge.admin.repository.ConversionLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies rollup bucket writes against a real database, including concurrent first writes
+ *
+ * Tests run without a surrounding test transaction so each writer commits on its own.
+ */
+@DataJpaTest
+@Import(ConversionRollupService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ConversionRollupServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 14, 10, 30);
+
+    @Autowired
+    private ConversionRollupService rollupService;
+
+    @Autowired
+    private ConversionDailyRollupRepository rollupRepository;
+
+    @Autowired
+    private ConversionLogRepository conversionLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        rollupRepository.deleteAll();
+        conversionLogRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentFirstWritesToOneBucketAreBothCounted() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        // The first writer creates the bucket and holds its transaction open
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            extendLockTimeout();
+            rollupService.recordConversion(conversion("10.00"));
+            firstWritten.countDown();
+            await(releaseFirst);
+        }));
+        assertThat(firstWritten.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // The second writer misses the uncommitted bucket and waits on the same key
+        AtomicReference<Thread> secondThread = new AtomicReference<>();
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            extendLockTimeout();
+            secondThread.set(Thread.currentThread());
+            rollupService.recordConversion(conversion("5.00"));
+        }));
+        awaitBlocked(secondThread, second);
+
+        releaseFirst.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        ConversionDailyRollup bucket = rollupRepository.findById(bucketId()).orElseThrow();
+        assertThat(bucket.getConversionCount()).isEqualTo(2L);
+        assertThat(bucket.getTotalPoints()).isEqualByComparingTo("1500.00");
+        assertThat(bucket.getTotalAmount()).isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    void statusChangeMovesConversionBetweenBuckets() {
+        ConversionLog log = conversion("10.00");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> rollupService.recordConversion(log));
+
+        log.setStatus(ConversionStatus.COMPLETED);
+        transaction.executeWithoutResult(status -> rollupService.recordStatusChange(log, ConversionStatus.PENDING));
+
+        assertThat(rollupRepository.findById(bucketId()).orElseThrow().getConversionCount()).isZero();
+        ConversionDailyRollupId completed = new ConversionDailyRollupId(
+            CREATED_AT.toLocalDate(), 7L, TransactionType.REDEEM, ConversionStatus.COMPLETED);
+        assertThat(rollupRepository.findById(completed).orElseThrow().getConversionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void rebuildReplacesBucketsWithTheAggregateOfTheLog() {
+        storeAtCreatedAt(conversion("10.00"));
+        storeAtCreatedAt(conversion("2.50"));
+        // A stale bucket that the rebuild must overwrite
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+            status -> rollupService.recordConversion(conversion("99.00")));
+
+        int written = new TransactionTemplate(transactionManager).execute(
+            status -> rollupService.rebuild(CREATED_AT.toLocalDate()));
+
+        assertThat(written).isEqualTo(1);
+        ConversionDailyRollup bucket = rollupRepository.findById(bucketId()).orElseThrow();
+        assertThat(bucket.getConversionCount()).isEqualTo(2L);
+        assertThat(bucket.getTotalAmount()).isEqualByComparingTo("12.50");
+    }
+
+    /**
+     * Persist a conversion and move it back to the fixed day (persisting stamps the current time)
+     */
+    private void storeAtCreatedAt(ConversionLog log) {
+        ConversionLog saved = conversionLogRepository.save(log);
+        jdbcTemplate.update("UPDATE conversion_logs SET created_at = ? WHERE id = ?", CREATED_AT, saved.getId());
+    }
+
+    /**
+     * Give the transaction's connection room to wait out the other writer (H2 defaults to one second)
+     */
+    private void extendLockTimeout() {
+        jdbcTemplate.execute("SET LOCK_TIMEOUT 10000");
+    }
+
+    private static ConversionLog conversion(String amount) {
+        ConversionLog log = new ConversionLog(3L, 7L, TransactionType.REDEEM,
+                                              new BigDecimal("750.00"), new BigDecimal(amount));
+        log.setStatus(ConversionStatus.PENDING);
+        log.setCreatedAt(CREATED_AT);
+        return log;
+    }
+
+    private static ConversionDailyRollupId bucketId() {
+        return new ConversionDailyRollupId(CREATED_AT.toLocalDate(), 7L, TransactionType.REDEEM,
+                                           ConversionStatus.PENDING);
+    }
+
+    /**
+     * Wait until the writer is inside the database, retrying against the other transaction's row
+     */
+    private static void awaitBlocked(AtomicReference<Thread> writer, CompletableFuture<Void> done)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            assertThat(done).as("second writer finished without waiting for the first").isNotDone();
+            Thread thread = writer.get();
+            if (thread != null && Arrays.stream(thread.getStackTrace())
+                    .anyMatch(frame -> frame.getClassName().startsWith("org.h2.mvstore."))) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Second writer never blocked on the first writer's bucket");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.model.JwtSigningKey;
+import com.loyalbridge.admin.repository.JwtSigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that signing private keys are only stored sealed, including rows written before encryption,
+ * and that tokens stop verifying once their key leaves the ring
+ */
+class JwtKeyRingTest {
+
+    private static final String KEY_ENCRYPTION_KEY = "iaJ64uu/UG9hYoSapBUXWDk0G8NghMw7jW7WoKmwSrQ=";
+
+    private final List<JwtSigningKey> rows = new ArrayList<>();
+    private final JwtSigningKeyRepository repository = mock(JwtSigningKeyRepository.class);
+    private final SigningKeyCipher cipher = cipher(KEY_ENCRYPTION_KEY);
+    private final JwtKeyRing keyRing = new JwtKeyRing(repository, cipher, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void configure() {
+        when(repository.findAllByOrderByCreatedAtDesc()).thenAnswer(invocation -> List.copyOf(rows));
+        when(repository.save(any(JwtSigningKey.class))).thenAnswer(invocation -> {
+            rows.add(0, invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        ReflectionTestUtils.setField(keyRing, "algorithm", JwtKeyRing.Algorithm.ES256);
+        ReflectionTestUtils.setField(keyRing, "rotationIntervalMs", 86_400_000L);
+        ReflectionTestUtils.setField(keyRing, "keyRefreshMs", 60_000L);
+        ReflectionTestUtils.setField(keyRing, "jwtExpiration", 900_000L);
+        ReflectionTestUtils.setField(keyRing, "refreshExpiration", 86_400_000L);
+    }
+
+    @Test
+    void rotatedKeyIsStoredSealed() throws GeneralSecurityException {
+        keyRing.refresh();
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(cipher.isEncrypted(row.getPrivateKey())).isTrue();
+            assertThat(cipher.decrypt(row.getKid(), row.getPrivateKey()))
+                .isEqualTo(keyRing.signingKey().privateKey().getEncoded());
+        });
+    }
+
+    @Test
+    void plainKeyFromAnEarlierVersionIsSealedAndKeepsSigning() {
+        KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+        Base64.Encoder encoder = Base64.getEncoder();
+        JwtSigningKey plain = new JwtSigningKey("legacy-kid", "ES256",
+            encoder.encodeToString(keyPair.getPublic().getEncoded()),
+            encoder.encodeToString(keyPair.getPrivate().getEncoded()));
+        rows.add(plain);
+
+        keyRing.refresh();
+
+        assertThat(cipher.isEncrypted(plain.getPrivateKey())).isTrue();
+        assertThat(rows).containsExactly(plain);
+        assertThat(keyRing.signingKey().kid()).isEqualTo("legacy-kid");
+        assertThat(keyRing.signingKey().privateKey().getEncoded()).isEqualTo(keyPair.getPrivate().getEncoded());
+    }
+
+    @Test
+    void sealedKeyOpensOnlyUnderItsOwnKidAndKey() throws GeneralSecurityException {
+        String sealed = cipher.encrypt("kid-1", new byte[] {1, 2, 3});
+
+        assertThat(cipher.decrypt("kid-1", sealed)).containsExactly(1, 2, 3);
+        assertThatThrownBy(() -> cipher.decrypt("kid-2", sealed)).isInstanceOf(GeneralSecurityException.class);
+        assertThatThrownBy(() -> cipher("AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=").decrypt("kid-1", sealed))
+            .isInstanceOf(GeneralSecurityException.class);
+    }
+
+    @Test
+    void cachedTokenIsRejectedOnceItsKeyLeavesTheRing() {
+        keyRing.refresh();
+        JwtService jwtService = new JwtService(keyRing);
+        ReflectionTestUtils.setField(jwtService, "secretKey",
+            "MyVeryLongAndSecureSecretKeyForLoyalBridgeAdminPanelThatIsAtLeast256BitsLong2024!@#$");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 900_000L);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheSize", 100);
+        jwtService.init();
+
+        String token = jwtService.generateToken(Map.of("role", "ADMIN", "adminId", 1L),
+            User.withUsername("admin@loyalbridge.io").password("unused").roles("ADMIN").build());
+        AdminPrincipal principal = jwtService.parseAccessToken(token);
+        assertThat(principal.getKeyId()).isEqualTo(keyRing.signingKey().kid());
+        assertThat(jwtService.verifiedPrincipals()).containsExactly(principal);
+
+        // The key is removed from the table, e.g. after a suspected leak, and the next refresh drops it
+        rows.clear();
+        keyRing.refresh();
+
+        assertThat(jwtService.verifiedPrincipals()).isEmpty();
+        assertThatThrownBy(() -> jwtService.parseAccessToken(token)).isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    void missingKeyEncryptionKeyFailsStartupForAsymmetricSigning() {
+        for (JwtKeyRing.Algorithm algorithm : List.of(JwtKeyRing.Algorithm.ES256, JwtKeyRing.Algorithm.EdDSA)) {
+            SigningKeyCipher unconfigured = new SigningKeyCipher();
+            ReflectionTestUtils.setField(unconfigured, "encodedKeyEncryptionKey", "");
+            ReflectionTestUtils.setField(unconfigured, "algorithm", algorithm);
+
+            assertThatThrownBy(unconfigured::init).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("key-encryption-key");
+        }
+    }
+
+    @Test
+    void missingKeyEncryptionKeyIsAllowedForHmacButNeverSeals() {
+        SigningKeyCipher unconfigured = new SigningKeyCipher();
+        ReflectionTestUtils.setField(unconfigured, "encodedKeyEncryptionKey", "");
+        ReflectionTestUtils.setField(unconfigured, "algorithm", JwtKeyRing.Algorithm.HS256);
+        unconfigured.init();
+
+        assertThatThrownBy(() -> unconfigured.encrypt("kid-1", new byte[] {1, 2, 3}))
+            .isInstanceOf(GeneralSecurityException.class);
+    }
+
+    private static SigningKeyCipher cipher(String encodedKey) {
+        SigningKeyCipher cipher = new SigningKeyCipher();
+        ReflectionTestUtils.setField(cipher, "encodedKeyEncryptionKey", encodedKey);
+        cipher.init();
+        return cipher;
+    }
+}
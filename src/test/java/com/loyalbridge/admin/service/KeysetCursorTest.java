@@ -0,0 +1,220 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.dto.CursorPage;
+import com.loyalbridge.admin.model.ConversionLog;
+import com.loyalbridge.admin.model.TransactionType;
+import com.loyalbridge.admin.repository.ConversionLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies cursor encoding, rejection of foreign or tampered cursors, and
+ * that paging over duplicate sort values neither skips nor repeats rows
+ */
+@DataJpaTest
+class KeysetCursorTest {
+
+    private static final Map<String, Function<String, ?>> SORT_KEYS = Map.of(
+        "createdAt", LocalDateTime::parse,
+        "name", Function.identity(),
+        "conversionRate", BigDecimal::new,
+        "pointsAmount", BigDecimal::new,
+        "id", Long::valueOf
+    );
+
+    private static final String SEPARATOR = "\u001F";
+
+    private static final Comparator<ConversionLog> ORDER =
+        Comparator.comparing(ConversionLog::getPointsAmount).thenComparing(ConversionLog::getId);
+
+    @Autowired
+    private ConversionLogRepository conversionLogRepository;
+
+    static Stream<Arguments> sortValues() {
+        return Stream.of(
+            Arguments.of("createdAt", LocalDateTime.of(2026, 3, 14, 10, 30, 15, 123_000_000)),
+            Arguments.of("name", "O'Brien, Zoë & Co"),
+            Arguments.of("conversionRate", new BigDecimal("0.0100")),
+            Arguments.of("pointsAmount", new BigDecimal("1E+3"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("sortValues")
+    void cursorRoundTripsTheLastRowPosition(String sortBy, Object sortValue) {
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            String cursor = nextCursor(sortBy, direction, sortValue, 42L);
+
+            KeysetScrollPosition position = KeysetCursor.decode(cursor, sortBy, direction, SORT_KEYS);
+
+            assertThat(position.getKeys()).containsOnlyKeys(sortBy, "id");
+            assertThat(position.getKeys().get(sortBy)).isEqualTo(
+                sortValue instanceof BigDecimal decimal ? new BigDecimal(decimal.toPlainString()) : sortValue);
+            assertThat(position.getKeys().get("id")).isEqualTo(42L);
+        }
+    }
+
+    @Test
+    void idCursorRoundTripsWithoutASecondKey() {
+        String cursor = nextCursor("id", Sort.Direction.DESC, 42L, 42L);
+
+        KeysetScrollPosition position = KeysetCursor.decode(cursor, "id", Sort.Direction.DESC, SORT_KEYS);
+
+        assertThat(position.getKeys()).containsExactly(Map.entry("id", 42L));
+    }
+
+    @Test
+    void blankCursorStartsAtTheBeginning() {
+        assertThat(KeysetCursor.decode(null, "name", Sort.Direction.ASC, SORT_KEYS).isInitial()).isTrue();
+        assertThat(KeysetCursor.decode(" ", "name", Sort.Direction.ASC, SORT_KEYS).isInitial()).isTrue();
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        Window<Map<String, Object>> window = Window.from(
+            List.of(Map.of("id", 1L)), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+
+        CursorPage<Map<String, Object>> page = KeysetCursor.toPage(window, Function.identity(), "id",
+                                                                    Sort.Direction.ASC);
+
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"password", "passwordHash", "id; DROP TABLE users", ""})
+    void sortRejectsKeysOutsideTheWhitelist(String sortBy) {
+        assertThatThrownBy(() -> KeysetCursor.sort(sortBy, Sort.Direction.ASC, SORT_KEYS))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unsupported sort field");
+    }
+
+    @Test
+    void sortAddsIdAsTieBreaker() {
+        assertThat(KeysetCursor.sort("name", Sort.Direction.DESC, SORT_KEYS))
+            .isEqualTo(Sort.by(Sort.Direction.DESC, "name").and(Sort.by(Sort.Direction.DESC, "id")));
+        assertThat(KeysetCursor.sort("id", Sort.Direction.ASC, SORT_KEYS))
+            .isEqualTo(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    @Test
+    void decodeRejectsCursorForAKeyOutsideTheWhitelist() {
+        String forged = token("password", "ASC", "1", "secret");
+
+        assertThatThrownBy(() -> KeysetCursor.decode(forged, "password", Sort.Direction.ASC, SORT_KEYS))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void decodeRejectsCursorIssuedForAnotherSort() {
+        String cursor = nextCursor("name", Sort.Direction.ASC, "Alice", 7L);
+
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, "createdAt", Sort.Direction.ASC, SORT_KEYS))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cursor does not match the requested sort");
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, "name", Sort.Direction.DESC, SORT_KEYS))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cursor does not match the requested sort");
+    }
+
+    @ParameterizedTest
+    @MethodSource("tamperedCursors")
+    void decodeRejectsTamperedCursors(String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, "createdAt", Sort.Direction.ASC, SORT_KEYS))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Stream<String> tamperedCursors() {
+        return Stream.of(
+            "not base64 at all!",
+            token("createdAt", "ASC"),
+            token("createdAt", "ASC", "abc", "2026-03-14T10:30"),
+            token("createdAt", "ASC", "1", "yesterday"),
+            token("createdAt", "ASC", "1 OR 1=1", "2026-03-14T10:30")
+        );
+    }
+
+    @Test
+    void clampPageSizeKeepsSizeWithinBounds() {
+        assertThat(KeysetCursor.clampPageSize(0, 100)).isEqualTo(1);
+        assertThat(KeysetCursor.clampPageSize(-5, 100)).isEqualTo(1);
+        assertThat(KeysetCursor.clampPageSize(20, 100)).isEqualTo(20);
+        assertThat(KeysetCursor.clampPageSize(500, 100)).isEqualTo(100);
+    }
+
+    @Test
+    void pagingOverDuplicateSortValuesVisitsEveryRowOnce() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            // Only three distinct amounts, so most pages end inside a run of equal values
+            BigDecimal points = new BigDecimal(100 * (1 + i % 3));
+            expected.add(conversionLogRepository.save(
+                new ConversionLog(1L, 1L, TransactionType.EARN, points, BigDecimal.ONE)).getId());
+        }
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            List<ConversionLog> visited = new ArrayList<>();
+            String after = null;
+            do {
+                Sort sort = KeysetCursor.sort("pointsAmount", direction, SORT_KEYS);
+                KeysetScrollPosition position = KeysetCursor.decode(after, "pointsAmount", direction, SORT_KEYS);
+                Specification<ConversionLog> all = (root, query, cb) -> cb.conjunction();
+                Window<ConversionLog> window = conversionLogRepository.findBy(all,
+                    query -> query.sortBy(sort).limit(5).scroll(position));
+
+                CursorPage<ConversionLog> page = KeysetCursor.toPage(window, Function.identity(),
+                                                                     "pointsAmount", direction);
+                visited.addAll(page.getContent());
+                after = page.getNextCursor();
+            } while (after != null);
+
+            assertThat(visited).extracting(ConversionLog::getId).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(visited).isSortedAccordingTo(direction.isAscending() ? ORDER : ORDER.reversed());
+        }
+    }
+
+    /**
+     * Encode a cursor the way a page ending on the given row would
+     */
+    private static String nextCursor(String sortBy, Sort.Direction direction, Object sortValue, long id) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortBy, sortValue);
+        keys.put("id", id);
+        Window<Map<String, Object>> window = Window.from(List.of(keys), index -> ScrollPosition.forward(keys), true);
+
+        String cursor = KeysetCursor.toPage(window, Function.identity(), sortBy, direction).getNextCursor();
+        assertThat(cursor).isNotNull();
+        return cursor;
+    }
+
+    private static String token(String... parts) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(String.join(SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+}
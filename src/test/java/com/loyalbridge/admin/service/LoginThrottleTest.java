@@ -0,0 +1,227 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.dto.ThrottledKeyResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * Verifies sliding-window counting, back-off escalation and reset, and the key table cap
+ */
+class LoginThrottleTest {
+
+    private static final String EMAIL = "admin@loyalbridge.io";
+    private static final String IP = "198.51.100.7";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-14T10:30:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginThrottle throttle = new LoginThrottle(meterRegistry, clock);
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(throttle, "windowSeconds", 60L);
+        ReflectionTestUtils.setField(throttle, "emailMaxFailures", 5);
+        ReflectionTestUtils.setField(throttle, "ipMaxFailures", 1000);
+        ReflectionTestUtils.setField(throttle, "backoffBaseMs", 1000L);
+        ReflectionTestUtils.setField(throttle, "backoffMaxMs", 4000L);
+        ReflectionTestUtils.setField(throttle, "maxKeys", 100);
+    }
+
+    @Test
+    void failuresFromThePreviousWindowCountByTheirRemainingOverlap() {
+        fail(EMAIL, 1);
+        clock.advance(Duration.ofSeconds(50));
+        fail(EMAIL, 4);
+        assertAllowed(EMAIL);
+
+        // 10 s into the next window: 5 * 50/60 + 1 is over the limit
+        clock.advance(Duration.ofSeconds(20));
+        fail(EMAIL, 1);
+
+        assertThatThrownBy(() -> throttle.checkAllowed(EMAIL, IP)).isInstanceOf(LoginThrottledException.class);
+        assertThat(throttle.throttledKeys()).singleElement().satisfies(key -> {
+            assertThat(key.getKey()).isEqualTo("email:" + EMAIL);
+            assertThat(key.getRecentFailures()).isCloseTo(5 * 50 / 60.0 + 1, offset(0.01));
+        });
+    }
+
+    @Test
+    void failuresLateInThePreviousWindowMostlyAgeOut() {
+        fail(EMAIL, 1);
+        clock.advance(Duration.ofSeconds(50));
+        fail(EMAIL, 4);
+
+        // 50 s into the next window: 5 * 10/60 + 1
+        clock.advance(Duration.ofSeconds(60));
+        fail(EMAIL, 1);
+        assertAllowed(EMAIL);
+
+        // Two windows on, nothing is left of the earlier failures
+        clock.advance(Duration.ofSeconds(70));
+        fail(EMAIL, 5);
+        assertAllowed(EMAIL);
+    }
+
+    @Test
+    void backoffDoublesPerStrikeUpToTheCap() {
+        fail(EMAIL, 6);
+        assertThat(retryAfterSeconds(EMAIL)).isEqualTo(1);
+
+        fail(EMAIL, 1);
+        assertThat(retryAfterSeconds(EMAIL)).isEqualTo(2);
+
+        fail(EMAIL, 1);
+        assertThat(retryAfterSeconds(EMAIL)).isEqualTo(4);
+
+        fail(EMAIL, 1);
+        assertThat(retryAfterSeconds(EMAIL)).isEqualTo(4);
+        assertThat(throttle.throttledKeys()).singleElement()
+            .extracting(ThrottledKeyResponse::getStrikes).isEqualTo(4);
+        assertThat(counter("loyalbridge.auth.login.throttle.rejected")).isEqualTo(4.0);
+    }
+
+    @Test
+    void strikesResetAfterAFullWindowWithoutFailures() {
+        fail(EMAIL, 6);
+        clock.advance(Duration.ofSeconds(2));
+        assertAllowed(EMAIL);
+
+        // Still within the window, so the next block escalates
+        fail(EMAIL, 1);
+        assertThat(retryAfterSeconds(EMAIL)).isEqualTo(2);
+
+        clock.advance(Duration.ofSeconds(120));
+        assertAllowed(EMAIL);
+        fail(EMAIL, 6);
+
+        assertThat(retryAfterSeconds(EMAIL)).isEqualTo(1);
+        assertThat(throttle.throttledKeys()).singleElement()
+            .extracting(ThrottledKeyResponse::getStrikes).isEqualTo(1);
+    }
+
+    @Test
+    void successClearsTheEmailButNotTheIp() {
+        ReflectionTestUtils.setField(throttle, "ipMaxFailures", 5);
+        fail(EMAIL, 4);
+
+        throttle.recordSuccess(EMAIL);
+        fail("other@loyalbridge.io", 2);
+
+        // The email starts over, but the IP has now seen six failures
+        assertThatThrownBy(() -> throttle.checkAllowed(EMAIL, IP)).isInstanceOf(LoginThrottledException.class);
+        assertThat(throttle.throttledKeys()).extracting(ThrottledKeyResponse::getKey).containsExactly("ip:" + IP);
+    }
+
+    @Test
+    void newKeysAreNotTrackedWhenTheTableIsFullUntilIdleKeysAreSwept() {
+        ReflectionTestUtils.setField(throttle, "maxKeys", 3);
+        fail("a@loyalbridge.io", 1);
+        fail("b@loyalbridge.io", 1);
+        assertThat(gauge("loyalbridge.auth.login.throttle.keys")).isEqualTo(3.0);
+
+        fail("c@loyalbridge.io", 1);
+        assertThat(counter("loyalbridge.auth.login.throttle.untracked")).isEqualTo(1.0);
+        assertThat(gauge("loyalbridge.auth.login.throttle.keys")).isEqualTo(3.0);
+
+        // Two windows later the old keys are idle and make room
+        clock.advance(Duration.ofSeconds(120));
+        fail("c@loyalbridge.io", 1);
+
+        assertThat(counter("loyalbridge.auth.login.throttle.untracked")).isEqualTo(1.0);
+        assertThat(gauge("loyalbridge.auth.login.throttle.keys")).isEqualTo(2.0);
+    }
+
+    @Test
+    void sweepKeepsBlockedKeys() {
+        ReflectionTestUtils.setField(throttle, "backoffMaxMs", 600_000L);
+        fail(EMAIL, 15);
+
+        clock.advance(Duration.ofSeconds(120));
+        throttle.sweep();
+
+        assertThat(throttle.throttledKeys()).extracting(ThrottledKeyResponse::getKey).containsExactly("email:" + EMAIL);
+    }
+
+    @Test
+    void concurrentFailuresAreAllCounted() throws Exception {
+        int threads = 8;
+        int failuresPerThread = 250;
+        ReflectionTestUtils.setField(throttle, "emailMaxFailures", threads * failuresPerThread - 1);
+        ReflectionTestUtils.setField(throttle, "ipMaxFailures", threads * failuresPerThread);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<CompletableFuture<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(CompletableFuture.runAsync(() -> {
+                    await(start);
+                    fail(EMAIL, failuresPerThread);
+                }, executor));
+            }
+            start.countDown();
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Only the last failure crosses the email limit, and the IP sits exactly at its own
+        assertThat(throttle.throttledKeys()).singleElement().satisfies(key -> {
+            assertThat(key.getKey()).isEqualTo("email:" + EMAIL);
+            assertThat(key.getRecentFailures()).isEqualTo(threads * failuresPerThread);
+            assertThat(key.getStrikes()).isEqualTo(1);
+        });
+    }
+
+    private void fail(String email, int times) {
+        for (int i = 0; i < times; i++) {
+            throttle.recordFailure(email, IP);
+        }
+    }
+
+    private void assertAllowed(String email) {
+        assertThatCode(() -> throttle.checkAllowed(email, IP)).doesNotThrowAnyException();
+    }
+
+    private long retryAfterSeconds(String email) {
+        try {
+            throttle.checkAllowed(email, IP);
+        } catch (LoginThrottledException e) {
+            return e.getRetryAfterSeconds();
+        }
+        throw new AssertionError("Expected " + email + " to be throttled");
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.loyalbridge.admin.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies OTP verification outcomes and timing-wheel eviction against a test clock
+ */
+class OtpStoreTest {
+
+    private static final String EMAIL = "admin@loyalbridge.io";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-14T10:30:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OtpStore store = new OtpStore(meterRegistry, clock);
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(store, "expiryMinutes", 5L);
+        ReflectionTestUtils.setField(store, "length", 6);
+        ReflectionTestUtils.setField(store, "maxAttempts", 3);
+        ReflectionTestUtils.setField(store, "tickMs", 1000L);
+    }
+
+    @Test
+    void correctCodeVerifiesOnce() {
+        String code = store.issue(EMAIL);
+
+        assertThat(store.verify(EMAIL, code)).isEqualTo(OtpStore.Result.VERIFIED);
+        assertThat(store.verify(EMAIL, code)).isEqualTo(OtpStore.Result.NOT_FOUND);
+    }
+
+    @Test
+    void tooManyInvalidAttemptsLockOutTheCode() {
+        String code = store.issue(EMAIL);
+
+        assertThat(store.verify(EMAIL, wrong(code))).isEqualTo(OtpStore.Result.INVALID);
+        assertThat(store.verify(EMAIL, wrong(code))).isEqualTo(OtpStore.Result.INVALID);
+        assertThat(store.verify(EMAIL, wrong(code))).isEqualTo(OtpStore.Result.LOCKED_OUT);
+
+        // The correct code no longer works once locked out
+        assertThat(store.verify(EMAIL, code)).isEqualTo(OtpStore.Result.NOT_FOUND);
+        assertThat(counter("loyalbridge.otp.locked.out")).isEqualTo(1.0);
+    }
+
+    @Test
+    void expiredCodeIsReportedAsExpiredNotInvalid() {
+        String code = store.issue(EMAIL);
+        assertThat(store.verify(EMAIL, wrong(code))).isEqualTo(OtpStore.Result.INVALID);
+
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(store.verify(EMAIL, code)).isEqualTo(OtpStore.Result.EXPIRED);
+        assertThat(store.verify(EMAIL, code)).isEqualTo(OtpStore.Result.NOT_FOUND);
+    }
+
+    @Test
+    void tickEvictsExpiredCodes() {
+        anchorWheel();
+        store.issue(EMAIL);
+
+        clock.advance(Duration.ofMinutes(5).minusSeconds(1));
+        store.tick();
+        assertThat(pending()).isEqualTo(1.0);
+
+        clock.advance(Duration.ofSeconds(1));
+        store.tick();
+        assertThat(pending()).isZero();
+        assertThat(counter("loyalbridge.otp.expired")).isEqualTo(1.0);
+    }
+
+    @Test
+    void reissuedCodeIsNotEvictedByTheOlderDeadline() {
+        anchorWheel();
+        store.issue(EMAIL);
+        clock.advance(Duration.ofMinutes(1));
+        String reissued = store.issue(EMAIL);
+
+        // The first code's deadline comes due while the re-issued code is still valid
+        clock.advance(Duration.ofMinutes(4).plusSeconds(1));
+        store.tick();
+
+        assertThat(pending()).isEqualTo(1.0);
+        assertThat(counter("loyalbridge.otp.expired")).isZero();
+        assertThat(store.verify(EMAIL, reissued)).isEqualTo(OtpStore.Result.VERIFIED);
+    }
+
+    @Test
+    void deadlineBeyondOneWheelRotationSurvivesEarlierRounds() {
+        // 100 ms ticks: the wheel spans 51.2 s, far shorter than the 5 minute expiry
+        ReflectionTestUtils.setField(store, "tickMs", 100L);
+        anchorWheel();
+        store.issue(EMAIL);
+
+        for (int second = 10; second < 300; second += 10) {
+            clock.advance(Duration.ofSeconds(10));
+            store.tick();
+            assertThat(pending()).as("pending after %d s", second).isEqualTo(1.0);
+        }
+
+        clock.advance(Duration.ofSeconds(10));
+        store.tick();
+        assertThat(pending()).isZero();
+        assertThat(counter("loyalbridge.otp.expired")).isEqualTo(1.0);
+    }
+
+    @Test
+    void longPauseBetweenTicksStillEvicts() {
+        ReflectionTestUtils.setField(store, "tickMs", 100L);
+        anchorWheel();
+        store.issue(EMAIL);
+
+        // Several wheel rotations pass without a tick
+        clock.advance(Duration.ofMinutes(10));
+        store.tick();
+
+        assertThat(pending()).isZero();
+    }
+
+    /**
+     * The first tick only anchors the wheel at the current time, as at application startup
+     */
+    private void anchorWheel() {
+        store.tick();
+    }
+
+    private double pending() {
+        return meterRegistry.get("loyalbridge.otp.pending").gauge().value();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private static String wrong(String code) {
+        return code.equals("000000") ? "111111" : "000000";
+    }
+}
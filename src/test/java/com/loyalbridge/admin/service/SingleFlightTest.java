@@ -0,0 +1,166 @@
+package com.loyalbridge.admin.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that concurrent callers share one computation, its result or its exception,
+ * and that the key is released once it completes
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneResult() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        List<CompletableFuture<Object>> callers = callConcurrently("overview", () -> {
+            runs.incrementAndGet();
+            await(release);
+            return result;
+        }, release);
+
+        for (CompletableFuture<Object> caller : callers) {
+            assertThat(caller.get(10, TimeUnit.SECONDS)).isSameAs(result);
+        }
+        assertThat(runs).hasValue(1);
+        assertThat(calls("overview", "executed")).isEqualTo(1.0);
+        assertThat(calls("overview", "coalesced")).isEqualTo(CALLERS - 1.0);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void concurrentCallersShareOneException() {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+
+        List<CompletableFuture<Object>> callers = callConcurrently("overview", () -> {
+            runs.incrementAndGet();
+            await(release);
+            throw failure;
+        }, release);
+
+        for (CompletableFuture<Object> caller : callers) {
+            assertThatThrownBy(() -> caller.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isSameAs(failure);
+        }
+        assertThat(runs).hasValue(1);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void callAfterCompletionStartsAFreshComputation() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThat(singleFlight.execute("overview", runs::incrementAndGet)).isEqualTo(1);
+        assertThatThrownBy(() -> singleFlight.execute("overview", () -> {
+            throw new IllegalStateException("failed");
+        })).hasMessage("failed");
+        assertThat(singleFlight.execute("overview", runs::incrementAndGet)).isEqualTo(2);
+
+        assertThat(calls("overview", "executed")).isEqualTo(3.0);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void differentKeysDoNotWaitForEachOther() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> singleFlight.execute("slow", () -> {
+            started.countDown();
+            await(release);
+            return "slow";
+        }), executor);
+        await(started);
+
+        try {
+            assertThat(singleFlight.execute("fast", () -> "fast")).isEqualTo("fast");
+            assertThat(inFlight()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+        }
+        assertThat(slow.get(10, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    /**
+     * Start one leader, let the other callers join its computation, then release it
+     */
+    private List<CompletableFuture<Object>> callConcurrently(String key, Supplier<Object> computation,
+                                                             CountDownLatch release) {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        List<CompletableFuture<Object>> callers = new ArrayList<>();
+        callers.add(CompletableFuture.supplyAsync(() -> singleFlight.execute(key, () -> {
+            leaderStarted.countDown();
+            return computation.get();
+        }), executor));
+        await(leaderStarted);
+
+        for (int i = 1; i < CALLERS; i++) {
+            callers.add(CompletableFuture.supplyAsync(() -> singleFlight.execute(key, computation), executor));
+        }
+        awaitCoalesced(key, CALLERS - 1);
+        assertThat(inFlight()).isEqualTo(1.0);
+
+        release.countDown();
+        return callers;
+    }
+
+    private void awaitCoalesced(String key, int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            if (meterRegistry.find("loyalbridge.singleflight.calls").tags("key", key, "outcome", "coalesced")
+                    .counters().stream().mapToDouble(counter -> counter.count()).sum() >= expected) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("Callers never joined the computation in flight");
+    }
+
+    private double calls(String key, String outcome) {
+        return meterRegistry.get("loyalbridge.singleflight.calls").tags("key", key, "outcome", outcome)
+            .counter().count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("loyalbridge.singleflight.in.flight").gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
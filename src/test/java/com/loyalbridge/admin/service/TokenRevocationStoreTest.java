@@ -0,0 +1,119 @@
+package com.loyalbridge.admin.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies revocations survive filter rebuilds, expire with their token, and
+ * that the Bloom filter keeps its false-positive rate near the configured target
+ */
+class TokenRevocationStoreTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-14T10:30:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenRevocationStore store = new TokenRevocationStore(meterRegistry, clock);
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(store, "expectedEntries", 100);
+        ReflectionTestUtils.setField(store, "falsePositiveProbability", 0.01);
+        store.init();
+    }
+
+    @Test
+    void revokedTokenStaysRevokedAcrossSweeps() {
+        store.revoke("before-sweep", clock.instant().plus(Duration.ofMinutes(15)));
+        assertThat(store.isRevoked("before-sweep")).isTrue();
+
+        store.sweep();
+        store.revoke("after-sweep", clock.instant().plus(Duration.ofMinutes(15)));
+
+        assertThat(store.isRevoked("before-sweep")).isTrue();
+        assertThat(store.isRevoked("after-sweep")).isTrue();
+        assertThat(store.isRevoked("never-revoked")).isFalse();
+    }
+
+    @Test
+    void expiredEntriesAreIgnoredAndSwept() {
+        store.revoke("short", clock.instant().plus(Duration.ofMinutes(1)));
+        store.revoke("long", clock.instant().plus(Duration.ofMinutes(15)));
+
+        clock.advance(Duration.ofMinutes(2));
+
+        assertThat(store.isRevoked("short")).isFalse();
+        assertThat(store.size()).isEqualTo(2);
+        store.sweep();
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.isRevoked("long")).isTrue();
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        store.revoke("expired", clock.instant().minusSeconds(1));
+
+        assertThat(store.size()).isZero();
+        assertThat(store.isRevoked("expired")).isFalse();
+    }
+
+    @Test
+    void containsAnswersLikeIsRevokedWithoutCountingChecks() {
+        store.revoke("revoked", clock.instant().plus(Duration.ofMinutes(15)));
+        store.revoke("expiring", clock.instant().plus(Duration.ofMinutes(1)));
+        clock.advance(Duration.ofMinutes(2));
+
+        assertThat(store.contains("revoked")).isTrue();
+        assertThat(store.contains("expiring")).isFalse();
+        assertThat(store.contains("never-revoked")).isFalse();
+
+        assertThat(meterRegistry.get("loyalbridge.auth.revocation.checks").functionCounter().count()).isZero();
+        assertThat(meterRegistry.get("loyalbridge.auth.revocation.bloom.false.positives").functionCounter().count())
+            .isZero();
+    }
+
+    @Test
+    void sweepGrowsTheFilterWhenRevocationsOutnumberTheExpectation() {
+        // Ten times the configured expectation would saturate the original filter
+        for (int i = 0; i < 1000; i++) {
+            store.revoke("revoked-" + i, clock.instant().plus(Duration.ofMinutes(15)));
+        }
+        store.sweep();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(store.isRevoked("revoked-" + i)).isTrue();
+        }
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(store.isRevoked("active-" + i)).isFalse();
+        }
+
+        double rate = meterRegistry.get("loyalbridge.auth.revocation.bloom.false.positive.rate").gauge().value();
+        assertThat(rate).isLessThan(0.02);
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndBoundedFalsePositives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("member-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("member-" + i)).isTrue();
+        }
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        // Target is 1%; allow for sampling noise
+        assertThat((double) falsePositives / probes).isLessThan(0.015);
+    }
+}
@@ -0,0 +1,148 @@
+package com.loyalbridge.admin.service;
+
+import com.loyalbridge.admin.model.User;
+import com.loyalbridge.admin.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies candidate resolution, writes racing the initial build, catch-up on
+ * writes made elsewhere, and the size fallback
+ */
+class UserSearchIndexTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserSearchIndex index = new UserSearchIndex(userRepository);
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(index, "maxCandidates", 1000);
+        ReflectionTestUtils.setField(index, "maxUsers", 100);
+    }
+
+    @Test
+    void findsUsersContainingEveryTerm() {
+        buildWith(row(1L, "Alice Martin", "alice@example.com", "+15550001"),
+                  row(2L, "Martina Lopez", "mlopez@example.com", "+15550002"),
+                  row(3L, "Bob Stone", "bob@example.org", "+15550003"));
+
+        assertThat(index.findCandidates("martin", null, null)).contains(Set.of(1L, 2L));
+        assertThat(index.findCandidates("martin", "alice", null)).contains(Set.of(1L));
+        assertThat(index.findCandidates(null, null, "0003")).contains(Set.of(3L));
+        assertThat(index.findCandidates("zzz", null, null)).contains(Set.of());
+        // Too short to use trigrams
+        assertThat(index.findCandidates("al", null, null)).isEmpty();
+    }
+
+    @Test
+    void writesAfterTheBuildUpdatePostings() {
+        buildWith(row(1L, "Alice Martin", "alice@example.com", "+15550001"));
+
+        index.put(user(2L, "Carla Martins", "carla@example.com", "+15550002"));
+        index.put(user(1L, "Alice Moreau", "alice@example.com", "+15550001"));
+
+        assertThat(index.findCandidates("martin", null, null)).contains(Set.of(2L));
+        assertThat(index.findCandidates("moreau", null, null)).contains(Set.of(1L));
+
+        index.remove(2L);
+        assertThat(index.findCandidates("martin", null, null)).contains(Set.of());
+    }
+
+    @Test
+    void userDeletedDuringBuildIsNotIndexed() {
+        // User 2 is deleted while the build is at user 1, but its row was already fetched
+        Stream<Object[]> rows = Stream.of(row(1L, "Alice Martin", "alice@example.com", "+15550001"),
+                                          row(2L, "Bob Martin", "bob@example.com", "+15550002"))
+            .peek(row -> {
+                if (row[0].equals(1L)) {
+                    index.remove(2L);
+                }
+            });
+        when(userRepository.streamSearchFields()).thenReturn(rows);
+
+        index.build();
+
+        assertThat(index.findCandidates("martin", null, null)).contains(Set.of(1L));
+    }
+
+    @Test
+    void userSavedDuringBuildKeepsItsLatestFields() {
+        Stream<Object[]> rows = Stream.<Object[]>of(row(1L, "Alice Martin", "alice@example.com", "+15550001"))
+            .peek(row -> index.put(user(1L, "Alice Moreau", "alice@example.com", "+15550001")));
+        when(userRepository.streamSearchFields()).thenReturn(rows);
+
+        index.build();
+
+        assertThat(index.findCandidates("martin", null, null)).contains(Set.of());
+        assertThat(index.findCandidates("moreau", null, null)).contains(Set.of(1L));
+    }
+
+    @Test
+    void catchUpIndexesUsersWrittenOutsideThisNode() {
+        buildWith(row(1L, "Alice Martin", "alice@example.com", "+15550001"));
+        when(userRepository.streamSearchFieldsChangedSince(any(LocalDateTime.class), eq(1L))).thenReturn(Stream.of(
+            row(1L, "Alice Moreau", "alice@example.com", "+15550001"),
+            row(2L, "Carla Martins", "carla@example.com", "+15550002")));
+
+        index.catchUp();
+
+        assertThat(index.findCandidates("martin", null, null)).contains(Set.of(2L));
+        assertThat(index.findCandidates("moreau", null, null)).contains(Set.of(1L));
+
+        // The next catch-up only looks for ids above the highest one seen
+        when(userRepository.streamSearchFieldsChangedSince(any(LocalDateTime.class), eq(2L)))
+            .thenReturn(Stream.<Object[]>of(row(3L, "Dan Martin", "dan@example.com", "+15550003")));
+        index.catchUp();
+
+        assertThat(index.findCandidates("martin", null, null)).contains(Set.of(2L, 3L));
+    }
+
+    @Test
+    void fallsBackToTheDatabaseAboveTheUserLimit() {
+        ReflectionTestUtils.setField(index, "maxUsers", 2);
+        buildWith(row(1L, "Alice Martin", "alice@example.com", "+15550001"),
+                  row(2L, "Bob Martin", "bob@example.com", "+15550002"));
+        assertThat(index.findCandidates("martin", null, null)).contains(Set.of(1L, 2L));
+
+        index.put(user(3L, "Carla Martins", "carla@example.com", "+15550003"));
+
+        assertThat(index.findCandidates("martin", null, null)).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    void buildAboveTheUserLimitLeavesSearchesOnTheDatabase() {
+        ReflectionTestUtils.setField(index, "maxUsers", 1);
+        buildWith(row(1L, "Alice Martin", "alice@example.com", "+15550001"),
+                  row(2L, "Bob Martin", "bob@example.com", "+15550002"));
+
+        assertThat(index.findCandidates("martin", null, null)).isEmpty();
+    }
+
+    private void buildWith(Object[]... rows) {
+        when(userRepository.streamSearchFields()).thenReturn(List.of(rows).stream());
+        index.build();
+    }
+
+    private static Object[] row(Long id, String name, String email, String phone) {
+        return new Object[] {id, name, email, phone};
+    }
+
+    private static User user(Long id, String name, String email, String phone) {
+        User user = new User(name, email, phone);
+        user.setId(id);
+        return user;
+    }
+}